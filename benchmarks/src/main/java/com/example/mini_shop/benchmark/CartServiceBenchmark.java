@@ -0,0 +1,71 @@
+package com.example.mini_shop.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+import com.example.mini_shop.config.RedisConfig;
+import com.example.mini_shop.model.CartItem;
+import com.example.mini_shop.serializer.CartItemRedisSerializer;
+import com.example.mini_shop.service.CartService;
+
+/**
+ * 장바구니 추가/조회 (Redis 대역 사용, 상품 조회는 캐시 hit 가정)
+ * 서비스 로직 + CartItem 직렬화 비용만 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CartServiceBenchmark {
+
+	private static final String USER_ID = "bench-user";
+
+	@Param({"10", "50"})
+	public int cartLines;
+
+	private CartService cartService;
+	private long nextProductId;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		CartItemRedisSerializer serializer = new CartItemRedisSerializer(new RedisConfig().redisObjectMapper(), 512);
+		cartService = new CartService(new InMemoryCartRedisTemplate(serializer), new StubProductService(cartLines, 200));
+
+		// @Value 로 주입되는 최대 상품 수
+		var maxLines = ReflectionUtils.findField(CartService.class, "maxLines");
+		ReflectionUtils.makeAccessible(maxLines);
+		ReflectionUtils.setField(maxLines, cartService, cartLines);
+
+		for (long productId = 1; productId <= cartLines; productId++) {
+			cartService.addToCart(USER_ID, productId, 1);
+		}
+	}
+
+	@Benchmark
+	public void addToCart() {
+		// 이미 담긴 상품을 돌아가며 다시 담음 (장바구니 크기 일정하게 유지)
+		nextProductId = nextProductId % cartLines + 1;
+		cartService.addToCart(USER_ID, nextProductId, 2);
+	}
+
+	@Benchmark
+	public List<CartItem> getCart() {
+		return cartService.getCart(USER_ID);
+	}
+}
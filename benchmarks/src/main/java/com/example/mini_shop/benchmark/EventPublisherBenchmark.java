@@ -0,0 +1,98 @@
+package com.example.mini_shop.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import com.example.mini_shop.entity.OutboxEvent;
+import com.example.mini_shop.event.ElasticsearchIndexEvent;
+import com.example.mini_shop.event.NotificationEvent;
+import com.example.mini_shop.event.StockUpdatedEvent;
+import com.example.mini_shop.messaging.EventPublisher;
+import com.example.mini_shop.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 이벤트 발행 (EventPublisher -> outbox 저장)
+ * 발행은 브로커가 아닌 outbox 테이블로 가므로 OutboxEventRepository 를 대역으로 바꿔
+ * 메시지 변환 + outbox 행 생성 + 메트릭 기록 비용만 측정 (DB insert 제외)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventPublisherBenchmark {
+
+	private EventPublisher eventPublisher;
+	private StockUpdatedEvent stockEvent;
+	private ElasticsearchIndexEvent indexEvent;
+	private NotificationEvent notificationEvent;
+
+	@Setup
+	public void setUp() {
+		AtomicLong ids = new AtomicLong();
+		OutboxEventRepository repository = (OutboxEventRepository) Proxy.newProxyInstance(
+			OutboxEventRepository.class.getClassLoader(),
+			new Class<?>[] {OutboxEventRepository.class},
+			(proxy, method, args) -> {
+				if (!"save".equals(method.getName())) {
+					throw new UnsupportedOperationException(method.getName());
+				}
+				OutboxEvent outboxEvent = (OutboxEvent) args[0];
+				outboxEvent.setId(ids.incrementAndGet());
+				return outboxEvent;
+			});
+		eventPublisher = new EventPublisher(repository, new Jackson2JsonMessageConverter(), new SimpleMeterRegistry());
+
+		stockEvent = StockUpdatedEvent.builder()
+			.productId(42L)
+			.productName("상품 42 프리미엄 에디션")
+			.previousStock(100)
+			.currentStock(98)
+			.operation("DECREASE")
+			.updatedAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+			.build();
+		indexEvent = ElasticsearchIndexEvent.builder()
+			.productId(42L)
+			.operation("UPDATE")
+			.build();
+		notificationEvent = NotificationEvent.builder()
+			.recipient("user@example.com")
+			.type("ORDER_CREATED")
+			.title("Order Created")
+			.message("Order #42 has been created successfully")
+			.createdAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+			.build();
+	}
+
+	@Benchmark
+	public void publishStockUpdated() {
+		eventPublisher.publishStockUpdated(stockEvent);
+	}
+
+	@Benchmark
+	public void publishElasticsearchIndex() {
+		eventPublisher.publishElasticsearchIndex(indexEvent);
+	}
+
+	@Benchmark
+	public void publishNotification() {
+		eventPublisher.publishNotification(notificationEvent);
+	}
+}
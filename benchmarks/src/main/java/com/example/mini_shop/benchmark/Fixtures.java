@@ -0,0 +1,50 @@
+package com.example.mini_shop.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.mini_shop.entity.Product;
+import com.example.mini_shop.model.CartItem;
+
+/**
+ * 벤치마크 입력 데이터 (DataInitializer 샘플 상품과 비슷한 크기)
+ */
+final class Fixtures {
+
+	static final String[] CATEGORIES = {"전자제품", "의류", "도서", "식품", "스포츠"};
+
+	private Fixtures() {
+	}
+
+	static Product product(long id, int descriptionLength) {
+		return Product.builder()
+			.id(id)
+			.name("상품 " + id + " 프리미엄 에디션")
+			.description("설명".repeat(Math.max(1, descriptionLength / 2)))
+			.price(BigDecimal.valueOf(10_000 + id * 100))
+			.stock(100)
+			.category(CATEGORIES[(int) (id % CATEGORIES.length)])
+			.createdAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+			.updatedAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+			.build();
+	}
+
+	static CartItem cartItem(long productId, int quantity) {
+		return CartItem.builder()
+			.productId(productId)
+			.productName("상품 " + productId + " 프리미엄 에디션")
+			.price(BigDecimal.valueOf(10_000 + productId * 100))
+			.quantity(quantity)
+			.build();
+	}
+
+	static List<CartItem> cartItems(int lines) {
+		List<CartItem> items = new ArrayList<>(lines);
+		for (int i = 1; i <= lines; i++) {
+			items.add(cartItem(i, i % 3 + 1));
+		}
+		return items;
+	}
+}
@@ -0,0 +1,88 @@
+package com.example.mini_shop.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.example.mini_shop.model.CartItem;
+
+/**
+ * 장바구니 Redis 대역 (네트워크 왕복 없이 CartService 자체 비용만 측정)
+ * 값은 실제 hash value serializer 로 직렬화해서 byte[] 로 보관
+ * cart_set_item.lua 동작(HEXISTS / HLEN 제한 / HSET)을 그대로 흉내냄, TTL 은 무시
+ * CartService 가 쓰는 opsForHash().values / delete 만 지원
+ */
+class InMemoryCartRedisTemplate extends RedisTemplate<String, CartItem> {
+
+	private static final long LIMIT_EXCEEDED = -1;
+	private static final long NOT_FOUND = -2;
+
+	private final Map<String, Map<String, byte[]>> hashes = new ConcurrentHashMap<>();
+
+	InMemoryCartRedisTemplate(RedisSerializer<CartItem> hashValueSerializer) {
+		setHashValueSerializer(hashValueSerializer);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T execute(RedisScript<T> script, RedisSerializer<?> argsSerializer, RedisSerializer<T> resultSerializer,
+		List<String> keys, Object... args) {
+		Map<String, byte[]> hash = hashes.computeIfAbsent(keys.get(0), key -> new ConcurrentHashMap<>());
+		String field = string(args[0]);
+		boolean exists = hash.containsKey(field);
+
+		long result;
+		if ("1".equals(string(args[4])) && !exists) {
+			result = NOT_FOUND;
+		} else if (!exists && hash.size() >= Long.parseLong(string(args[3]))) {
+			result = LIMIT_EXCEEDED;
+		} else {
+			hash.put(field, (byte[]) args[1]);
+			result = hash.size();
+		}
+		return (T) Long.valueOf(result);
+	}
+
+	@Override
+	public Boolean delete(String key) {
+		return hashes.remove(key) != null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <HK, HV> HashOperations<String, HK, HV> opsForHash() {
+		RedisSerializer<CartItem> serializer = (RedisSerializer<CartItem>) getHashValueSerializer();
+		return (HashOperations<String, HK, HV>) Proxy.newProxyInstance(
+			HashOperations.class.getClassLoader(),
+			new Class<?>[] {HashOperations.class},
+			(proxy, method, methodArgs) -> switch (method.getName()) {
+				case "values" -> {
+					List<CartItem> values = new ArrayList<>();
+					hashes.getOrDefault((String) methodArgs[0], Map.of()).values()
+						.forEach(bytes -> values.add(serializer.deserialize(bytes)));
+					yield values;
+				}
+				case "delete" -> {
+					Map<String, byte[]> hash = hashes.get((String) methodArgs[0]);
+					long removed = 0;
+					for (Object field : (Object[]) methodArgs[1]) {
+						removed += hash != null && hash.remove(String.valueOf(field)) != null ? 1 : 0;
+					}
+					yield removed;
+				}
+				default -> throw new UnsupportedOperationException(method.getName());
+			});
+	}
+
+	private static String string(Object arg) {
+		return new String((byte[]) arg, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,133 @@
+package com.example.mini_shop.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.ReflectionUtils;
+
+import com.example.mini_shop.config.RedisConfig;
+import com.example.mini_shop.model.CartItem;
+import com.example.mini_shop.serializer.CartItemRedisSerializer;
+import com.example.mini_shop.service.CartService;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+
+/**
+ * 로그 출력 비용 : 장바구니 담기 + 조회 처리량을 로그 레벨 / appender 방식별로 비교 (4 스레드 동시 요청)
+ * level    : WARN = 로그 끔, INFO = 현재 설정, DEBUG = 조회/장바구니 로그가 INFO 였던 이전 출력량
+ * appender : sync = 요청 스레드에서 파일에 직접 출력, async = logback-spring.xml 과 같은 AsyncAppender
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+	private static final int CART_LINES = 20;
+	private static final String PATTERN =
+		"%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [mini-shop] [%t] %logger{40} : %m%n%ex";
+
+	@Param({"WARN", "INFO", "DEBUG"})
+	public String level;
+
+	@Param({"sync", "async"})
+	public String appender;
+
+	private CartService cartService;
+	private Logger appLogger;
+	private Appender<ILoggingEvent> attached;
+	private File logFile;
+
+	@State(Scope.Thread)
+	public static class User {
+		private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+		final String userId = "bench-user-" + SEQUENCE.incrementAndGet();
+		long nextProductId;
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		CartItemRedisSerializer serializer = new CartItemRedisSerializer(new RedisConfig().redisObjectMapper(), 512);
+		cartService = new CartService(new InMemoryCartRedisTemplate(serializer), new StubProductService(CART_LINES, 200));
+		var maxLines = ReflectionUtils.findField(CartService.class, "maxLines");
+		ReflectionUtils.makeAccessible(maxLines);
+		ReflectionUtils.setField(maxLines, cartService, CART_LINES);
+
+		LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+		logFile = File.createTempFile("logging-benchmark", ".log");
+
+		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		encoder.setContext(context);
+		encoder.setPattern(PATTERN);
+		encoder.start();
+
+		FileAppender<ILoggingEvent> file = new FileAppender<>();
+		file.setContext(context);
+		file.setFile(logFile.getAbsolutePath());
+		file.setEncoder(encoder);
+		file.start();
+		attached = file;
+
+		if ("async".equals(appender)) {
+			AsyncAppender async = new AsyncAppender();
+			async.setContext(context);
+			async.addAppender(file);
+			async.setQueueSize(8192);
+			async.setDiscardingThreshold(1638);
+			async.setNeverBlock(true);
+			async.setIncludeCallerData(false);
+			async.start();
+			attached = async;
+		}
+
+		appLogger = context.getLogger("com.example.mini_shop");
+		appLogger.setLevel(ch.qos.logback.classic.Level.toLevel(level));
+		appLogger.setAdditive(false);
+		appLogger.addAppender(attached);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		appLogger.detachAppender(attached);
+		attached.stop();
+		appLogger.setAdditive(true);
+		appLogger.setLevel(null);
+		System.out.printf("%nLog file size (level=%s, appender=%s): %d bytes%n", level, appender, logFile.length());
+		logFile.delete();
+	}
+
+	@Benchmark
+	public List<CartItem> addAndGetCart(User user) {
+		user.nextProductId = user.nextProductId % CART_LINES + 1;
+		cartService.addToCart(user.userId, user.nextProductId, 1);
+		return cartService.getCart(user.userId);
+	}
+}
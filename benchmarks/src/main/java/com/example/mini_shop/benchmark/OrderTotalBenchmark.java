@@ -0,0 +1,50 @@
+package com.example.mini_shop.benchmark;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.mini_shop.model.CartItem;
+
+/**
+ * 주문 총액 계산 (OrderService.createOrder 와 같은 방식으로 CartItem.getTotalPrice 합산)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderTotalBenchmark {
+
+	@Param({"1", "10", "50"})
+	public int lines;
+
+	private List<CartItem> cartItems;
+
+	@Setup
+	public void setUp() {
+		cartItems = Fixtures.cartItems(lines);
+	}
+
+	@Benchmark
+	public BigDecimal totalAmount() {
+		BigDecimal totalAmount = BigDecimal.ZERO;
+		for (CartItem cartItem : cartItems) {
+			totalAmount = totalAmount.add(cartItem.getTotalPrice());
+		}
+		return totalAmount;
+	}
+}
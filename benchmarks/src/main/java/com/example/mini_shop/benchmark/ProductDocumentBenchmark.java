@@ -0,0 +1,41 @@
+package com.example.mini_shop.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.mini_shop.document.ProductDocument;
+import com.example.mini_shop.entity.Product;
+
+/**
+ * 상품 엔티티 -> 검색 문서 변환 (색인 batch, 재색인에서 상품마다 호출)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductDocumentBenchmark {
+
+	private Product product;
+
+	@Setup
+	public void setUp() {
+		product = Fixtures.product(42, 200);
+	}
+
+	@Benchmark
+	public ProductDocument from() {
+		return ProductDocument.from(product);
+	}
+}
@@ -0,0 +1,148 @@
+package com.example.mini_shop.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import com.example.mini_shop.config.RedisConfig;
+import com.example.mini_shop.entity.Product;
+import com.example.mini_shop.event.StockUpdatedEvent;
+import com.example.mini_shop.model.CartItem;
+import com.example.mini_shop.serializer.CartItemRedisSerializer;
+import com.example.mini_shop.serializer.ProductRedisSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Redis 값 / 이벤트 직렬화 비교
+ * json   : 바이너리 포맷 도입 전 방식 (redisObjectMapper, 타입 지정 Jackson serializer)
+ * binary : serializer 패키지의 CompactRedisSerializer (descriptionLength 가 임계값 이상이면 Deflate 압축)
+ * event  : outbox 저장 시 사용하는 Jackson2JsonMessageConverter
+ * 크기 비교용으로 직렬화 결과 byte 수는 setUp 에서 출력
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+	private static final int COMPRESSION_THRESHOLD = 512;
+
+	// 상품 설명 길이 (문자 수), 긴 설명은 압축 경로 측정
+	@Param({"100", "1000"})
+	public int descriptionLength;
+
+	private Jackson2JsonRedisSerializer<CartItem> cartItemJson;
+	private CartItemRedisSerializer cartItemBinary;
+	private Jackson2JsonRedisSerializer<Product> productJson;
+	private ProductRedisSerializer productBinary;
+	private Jackson2JsonMessageConverter messageConverter;
+
+	private CartItem cartItem;
+	private Product product;
+	private StockUpdatedEvent event;
+
+	private byte[] cartItemJsonBytes;
+	private byte[] cartItemBinaryBytes;
+	private byte[] productJsonBytes;
+	private byte[] productBinaryBytes;
+	private Message eventMessage;
+
+	@Setup
+	public void setUp() {
+		ObjectMapper mapper = new RedisConfig().redisObjectMapper();
+		cartItemJson = new Jackson2JsonRedisSerializer<>(mapper, CartItem.class);
+		cartItemBinary = new CartItemRedisSerializer(mapper, COMPRESSION_THRESHOLD);
+		productJson = new Jackson2JsonRedisSerializer<>(mapper, Product.class);
+		productBinary = new ProductRedisSerializer(mapper, COMPRESSION_THRESHOLD);
+		messageConverter = new Jackson2JsonMessageConverter();
+
+		cartItem = Fixtures.cartItem(42, 2);
+		product = Fixtures.product(42, descriptionLength);
+		event = StockUpdatedEvent.builder()
+			.productId(42L)
+			.productName(product.getName())
+			.previousStock(100)
+			.currentStock(98)
+			.operation("DECREASE")
+			.updatedAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+			.build();
+
+		cartItemJsonBytes = cartItemJson.serialize(cartItem);
+		cartItemBinaryBytes = cartItemBinary.serialize(cartItem);
+		productJsonBytes = productJson.serialize(product);
+		productBinaryBytes = productBinary.serialize(product);
+		eventMessage = messageConverter.toMessage(event, new MessageProperties());
+
+		System.out.printf("%nSerialized size (descriptionLength=%d): cartItem json=%d binary=%d, "
+				+ "product json=%d binary=%d, stockEvent json=%d%n",
+			descriptionLength, cartItemJsonBytes.length, cartItemBinaryBytes.length,
+			productJsonBytes.length, productBinaryBytes.length, eventMessage.getBody().length);
+	}
+
+	@Benchmark
+	public byte[] cartItemJsonSerialize() {
+		return cartItemJson.serialize(cartItem);
+	}
+
+	@Benchmark
+	public byte[] cartItemBinarySerialize() {
+		return cartItemBinary.serialize(cartItem);
+	}
+
+	@Benchmark
+	public CartItem cartItemJsonDeserialize() {
+		return cartItemJson.deserialize(cartItemJsonBytes);
+	}
+
+	@Benchmark
+	public CartItem cartItemBinaryDeserialize() {
+		return cartItemBinary.deserialize(cartItemBinaryBytes);
+	}
+
+	@Benchmark
+	public byte[] productJsonSerialize() {
+		return productJson.serialize(product);
+	}
+
+	@Benchmark
+	public byte[] productBinarySerialize() {
+		return productBinary.serialize(product);
+	}
+
+	@Benchmark
+	public Product productJsonDeserialize() {
+		return productJson.deserialize(productJsonBytes);
+	}
+
+	@Benchmark
+	public Product productBinaryDeserialize() {
+		return productBinary.deserialize(productBinaryBytes);
+	}
+
+	@Benchmark
+	public Message eventToMessage() {
+		return messageConverter.toMessage(event, new MessageProperties());
+	}
+
+	@Benchmark
+	public Object eventFromMessage() {
+		return messageConverter.fromMessage(eventMessage);
+	}
+}
@@ -0,0 +1,44 @@
+package com.example.mini_shop.benchmark;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.example.mini_shop.entity.Product;
+import com.example.mini_shop.service.ProductService;
+
+/**
+ * 상품 캐시 hit 상황을 흉내내는 ProductService (미리 만든 상품을 바로 반환)
+ */
+class StubProductService extends ProductService {
+
+	private final Map<Long, Product> products = new HashMap<>();
+
+	StubProductService(int productCount, int descriptionLength) {
+		super(null, null, null, null, null);
+		for (long id = 1; id <= productCount; id++) {
+			products.put(id, Fixtures.product(id, descriptionLength));
+		}
+	}
+
+	@Override
+	public Product getProduct(Long id) {
+		Product product = products.get(id);
+		if (product == null) {
+			throw new RuntimeException("Product not found");
+		}
+		return product;
+	}
+
+	@Override
+	public Map<Long, Product> getProductMap(Collection<Long> ids) {
+		Map<Long, Product> result = new HashMap<>();
+		for (Long id : ids) {
+			Product product = products.get(id);
+			if (product != null) {
+				result.put(id, product);
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,30 @@
+-- =====================================================================
+-- IDENTITY -> pooled SEQUENCE 전환 마이그레이션
+--
+-- products / orders / order_items 의 ID 생성 전략을 IDENTITY 에서
+-- SEQUENCE(allocationSize = 50, pooled optimizer) 로 변경하면서 필요한 스크립트.
+-- 새 버전 애플리케이션을 띄우기 전에 한 번 실행한다.
+--
+--   docker exec -i shop-postgres psql -U postgres -d shopdb < docs/sql/pooled-id-sequences.sql
+-- =====================================================================
+
+BEGIN;
+
+-- 1. 엔티티의 @SequenceGenerator 와 같은 이름/증가값으로 시퀀스 생성
+--    (increment 가 allocationSize 와 다르면 Hibernate 가 기동 시 예외 발생)
+CREATE SEQUENCE IF NOT EXISTS products_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS orders_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS order_items_seq INCREMENT BY 50;
+
+-- 2. 기존 데이터의 최대 ID 이후부터 할당되도록 시퀀스 위치 조정
+--    pooled optimizer 는 한 번에 50 개 구간을 가져가므로 여유분 50 을 더한다
+SELECT setval('products_seq', COALESCE((SELECT MAX(id) FROM products), 0) + 50);
+SELECT setval('orders_seq', COALESCE((SELECT MAX(id) FROM orders), 0) + 50);
+SELECT setval('order_items_seq', COALESCE((SELECT MAX(id) FROM order_items), 0) + 50);
+
+-- 3. 기존 IDENTITY 기본값 제거 (애플리케이션이 항상 ID 를 지정하므로 더 이상 사용하지 않음)
+ALTER TABLE products ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE orders ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE order_items ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+COMMIT;
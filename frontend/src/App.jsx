@@ -10,6 +10,7 @@ const API_BASE_URL = 'http://localhost:8080/api';
 
 function App() {
   const [products, setProducts] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
   const [cart, setCart] = useState([]);
   const [orders, setOrders] = useState([]);
   const [recentViews, setRecentViews] = useState([]);
@@ -26,7 +27,19 @@ function App() {
     try {
       const response = await fetch(`${API_BASE_URL}/products`);
       const data = await response.json();
-      setProducts(data);
+      setProducts(data.items);
+      setNextCursor(data.nextCursor);
+    } catch (error) {
+      console.error('Error fetching products:', error);
+    }
+  };
+
+  const fetchMoreProducts = async () => {
+    try {
+      const response = await fetch(`${API_BASE_URL}/products?cursor=${nextCursor}`);
+      const data = await response.json();
+      setProducts(prev => [...prev, ...data.items]);
+      setNextCursor(data.nextCursor);
     } catch (error) {
       console.error('Error fetching products:', error);
     }
@@ -54,14 +67,25 @@ function App() {
 
   const searchProducts = async (keyword) => {
     try {
-      const response = await fetch(`${API_BASE_URL}/products/search?keyword=${keyword}`);
+      const response = await fetch(`${API_BASE_URL}/products/search?keyword=${encodeURIComponent(keyword)}`);
       const data = await response.json();
-      setProducts(data);
+      setProducts(data.items);
+      setNextCursor(null);
     } catch (error) {
       console.error('Error searching products:', error);
     }
   };
 
+  const suggestProducts = async (prefix) => {
+    try {
+      const response = await fetch(`${API_BASE_URL}/products/suggest?prefix=${encodeURIComponent(prefix)}`);
+      return await response.json();
+    } catch (error) {
+      console.error('Error fetching suggestions:', error);
+      return [];
+    }
+  };
+
   const viewProductDetail = async (productId) => {
     try {
       // 상품 조회 시 최근 본 상품에 자동 추가
@@ -146,7 +170,7 @@ function App() {
     try {
       const response = await fetch(`${API_BASE_URL}/orders/customer/${email}`);
       const data = await response.json();
-      setOrders(data);
+      setOrders(data.items);
     } catch (error) {
       console.error('Error fetching orders:', error);
     }
@@ -193,12 +217,15 @@ function App() {
       <main className="main-content">
         {currentView === 'products' && (
           <>
-            <SearchBar onSearch={searchProducts} onReset={fetchProducts} />
+            <SearchBar onSearch={searchProducts} onSuggest={suggestProducts} onReset={fetchProducts} />
             <ProductList
               products={products}
               onAddToCart={addToCart}
               onViewDetail={viewProductDetail}
             />
+            {nextCursor && (
+              <button onClick={fetchMoreProducts}>더 보기</button>
+            )}
           </>
         )}
 
@@ -49,7 +49,7 @@ function OrderList({ orders, onFetchOrders }) {
               <h4>주문 상품</h4>
               {order.orderItems.map(item => (
                 <div key={item.id} className="order-item">
-                  <span>{item.product.name}</span>
+                  <span>{item.productName}</span>
                   <span>{item.quantity}개</span>
                   <span>₩{formatPrice(item.price).toLocaleString()}</span>
                 </div>
@@ -39,7 +39,6 @@ function RecentViews({ recentViews, onAddToCart, onViewDetail, onRemove, onClear
               >
                 {product.name}
               </h3>
-              <p className="description">{product.description}</p>
               <p className="price">₩{formatPrice(product.price)}</p>
               <p className="stock">재고: {product.stock}개</p>
               <p className="category">카테고리: {product.category}</p>
@@ -1,7 +1,29 @@
-import React, { useState } from 'react';
+import React, { useEffect, useState } from 'react';
 
-function SearchBar({ onSearch, onReset }) {
+// 입력이 멈춘 뒤에만 자동완성 요청 (키 입력마다 호출하지 않음)
+const SUGGEST_DELAY_MILLIS = 150;
+
+function SearchBar({ onSearch, onSuggest, onReset }) {
   const [keyword, setKeyword] = useState('');
+  const [suggestions, setSuggestions] = useState([]);
+
+  useEffect(() => {
+    if (!keyword.trim()) {
+      setSuggestions([]);
+      return;
+    }
+    let cancelled = false;
+    const timer = setTimeout(async () => {
+      const names = await onSuggest(keyword.trim());
+      if (!cancelled) {
+        setSuggestions(names);
+      }
+    }, SUGGEST_DELAY_MILLIS);
+    return () => {
+      cancelled = true;
+      clearTimeout(timer);
+    };
+  }, [keyword, onSuggest]);
 
   const handleSearch = () => {
     if (keyword.trim()) {
@@ -20,13 +42,19 @@ function SearchBar({ onSearch, onReset }) {
         type="text"
         placeholder="상품 검색 (Elasticsearch)"
         value={keyword}
+        list="product-suggestions"
         onChange={(e) => setKeyword(e.target.value)}
         onKeyPress={(e) => e.key === 'Enter' && handleSearch()}
       />
+      <datalist id="product-suggestions">
+        {suggestions.map(name => (
+          <option key={name} value={name} />
+        ))}
+      </datalist>
       <button onClick={handleSearch}>검색</button>
       <button onClick={handleReset}>전체보기</button>
     </div>
   );
 }
 
-export default SearchBar;
\ No newline at end of file
+export default SearchBar;
@@ -0,0 +1,375 @@
+package com.example.mini_shop.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.mini_shop.entity.Product;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 단건 2단 캐시
+ * L1 : 로컬 Caffeine (크기/TTL 제한)
+ * L2 : Redis (Product 타입 지정 serializer)
+ * 상품 수정/삭제 시 L1, L2 삭제 후 Redis pub/sub 으로 다른 노드의 L1 도 무효화
+ * 삭제마다 상품별 버전을 올리고, DB 조회 결과는 조회 전에 읽은 버전이 그대로일 때만 L2 에 저장 (이전 값 재적재 방지)
+ * 주문 재고 차감은 삭제 대신 L2 의 재고 값만 갱신 (인기 상품 캐시가 주문마다 비워져 DB 로 몰리지 않도록)
+ */
+@Slf4j
+@Component
+public class ProductCache implements MessageListener {
+
+	public static final String INVALIDATION_CHANNEL = "product-cache:invalidate";
+	private static final String KEY_PREFIX = "product:";
+	private static final String VERSION_PREFIX = "product-version:";
+	private static final String NO_VERSION = "0";
+	private static final int STOCK_UPDATE_ATTEMPTS = 3;
+	private static final RedisScript<Long> PUT_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/product_cache_put.lua"), Long.class);
+	private static final RedisScript<Long> EVICT_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/product_cache_evict.lua"), Long.class);
+	private static final RedisSerializer<Long> LONG_RESULT = new GenericToStringSerializer<>(Long.class);
+
+	private final Cache<Long, Product> localCache;
+	private final RedisTemplate<String, Product> productRedisTemplate;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final Duration redisTtl;
+	// L1 무효화 횟수 : 조회 도중 무효화가 있었으면 조회 결과를 L1 에 남기지 않음
+	private final AtomicLong localInvalidations = new AtomicLong();
+
+	private final Counter redisHits;
+	private final Counter redisMisses;
+	private final Counter redisEvictions;
+
+	public ProductCache(
+		RedisTemplate<String, Product> productRedisTemplate,
+		StringRedisTemplate stringRedisTemplate,
+		RedisMessageListenerContainer listenerContainer,
+		MeterRegistry meterRegistry,
+		@Value("${shop.cache.product.local-max-size:10000}") long localMaxSize,
+		@Value("${shop.cache.product.local-ttl-seconds:30}") long localTtlSeconds,
+		@Value("${shop.cache.product.redis-ttl-minutes:10}") long redisTtlMinutes) {
+		this.productRedisTemplate = productRedisTemplate;
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.redisTtl = Duration.ofMinutes(redisTtlMinutes);
+
+		this.localCache = Caffeine.newBuilder()
+			.maximumSize(localMaxSize)
+			.expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, localCache, "product-local");
+
+		this.redisHits = meterRegistry.counter("cache.gets", "cache", "product-redis", "result", "hit");
+		this.redisMisses = meterRegistry.counter("cache.gets", "cache", "product-redis", "result", "miss");
+		this.redisEvictions = meterRegistry.counter("cache.evictions", "cache", "product-redis");
+
+		listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+	}
+
+	/**
+	 * L1 -> L2 -> loader 순서로 조회
+	 */
+	public Product get(Long id, Function<Long, Product> loader) {
+		Product product = localCache.getIfPresent(id);
+		if (product != null) {
+			return product;
+		}
+
+		long localVersion = localInvalidations.get();
+		product = getFromRedis(id);
+		if (product == null) {
+			// DB 조회 전에 버전을 읽어 두어야 조회 도중의 삭제를 감지할 수 있음
+			String version = getVersion(id);
+			product = loader.apply(id);
+			putToRedis(id, version, product);
+		}
+
+		putToLocal(id, product, localVersion);
+		return product;
+	}
+
+	/**
+	 * 다건 조회 : L1 일괄 조회 -> L2 MGET -> 남은 id 만 loader 로 일괄 조회
+	 */
+	public Map<Long, Product> getAll(Collection<Long> ids, Function<Collection<Long>, Map<Long, Product>> loader) {
+		Map<Long, Product> result = new HashMap<>(localCache.getAllPresent(ids));
+
+		List<Long> missing = ids.stream()
+			.filter(id -> !result.containsKey(id))
+			.distinct()
+			.toList();
+		if (missing.isEmpty()) {
+			return result;
+		}
+
+		long localVersion = localInvalidations.get();
+		List<Long> notInRedis = new ArrayList<>();
+		List<Product> cached = multiGetFromRedis(missing);
+		for (int i = 0; i < missing.size(); i++) {
+			Product product = cached != null ? cached.get(i) : null;
+			if (product != null) {
+				result.put(missing.get(i), product);
+				putToLocal(missing.get(i), product, localVersion);
+			} else {
+				notInRedis.add(missing.get(i));
+			}
+		}
+
+		if (!notInRedis.isEmpty()) {
+			Map<Long, String> versions = getVersions(notInRedis);
+			loader.apply(notInRedis).forEach((id, product) -> {
+				result.put(id, product);
+				putToLocal(id, product, localVersion);
+				putToRedis(id, versions.get(id), product);
+			});
+		}
+		return result;
+	}
+
+	/**
+	 * 트랜잭션 커밋 후 캐시 삭제 (커밋 전 삭제 시 이전 값이 다시 적재될 수 있음)
+	 */
+	public void evict(Long id) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evictNow(id);
+				}
+			});
+		} else {
+			evictNow(id);
+		}
+	}
+
+	/**
+	 * 트랜잭션 커밋 후 캐시된 상품의 재고 값만 갱신 (주문 재고 차감)
+	 * L2 에 없는 상품은 버전만 올려 진행 중인 조회가 차감 전 재고를 저장하지 못하게 함
+	 */
+	public void updateStocks(Map<Long, Integer> stocks) {
+		Map<Long, Integer> targets = Map.copyOf(stocks);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					targets.forEach(ProductCache.this::updateStockNow);
+				}
+			});
+		} else {
+			targets.forEach(this::updateStockNow);
+		}
+	}
+
+	/**
+	 * 다른 노드에서 발행한 무효화 메시지 수신 -> L1 삭제
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		try {
+			invalidateLocal(Long.parseLong(body));
+			log.debug("Local product cache invalidated: productId={}", body);
+		} catch (NumberFormatException e) {
+			log.warn("Invalid product cache invalidation message: {}", body);
+		}
+	}
+
+	private void evictNow(Long id) {
+		invalidateLocal(id);
+		try {
+			Long deleted = productRedisTemplate.execute(EVICT_SCRIPT, RedisSerializer.byteArray(), LONG_RESULT,
+				List.of(KEY_PREFIX + id, VERSION_PREFIX + id),
+				bytes(String.valueOf(redisTtl.toSeconds())));
+			if (deleted != null && deleted > 0) {
+				redisEvictions.increment();
+			}
+			stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(id));
+		} catch (Exception e) {
+			log.error("Failed to evict product cache: productId={}, error={}", id, e.getMessage());
+		}
+	}
+
+	/**
+	 * L2 의 상품을 재고만 바꾼 복사본으로 교체 (버전 비교 후 저장, 경합 시 재시도)
+	 * 재시도를 모두 실패하거나 Redis 오류가 나면 삭제로 대체
+	 */
+	private void updateStockNow(Long id, Integer stock) {
+		try {
+			for (int attempt = 0; attempt < STOCK_UPDATE_ATTEMPTS; attempt++) {
+				String version = readVersion(id);
+				Product cached = productRedisTemplate.opsForValue().get(KEY_PREFIX + id);
+				if (cached == null) {
+					break;
+				}
+				if (cached.getStock() != null && cached.getStock() <= stock) {
+					// 동시에 커밋된 다른 주문의 더 적은 재고가 이미 반영됨
+					return;
+				}
+				if (writeToRedis(id, version, withStock(cached, stock), true)) {
+					invalidateLocal(id);
+					stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(id));
+					return;
+				}
+			}
+		} catch (Exception e) {
+			log.warn("Failed to update product cache stock: productId={}, error={}", id, e.getMessage());
+		}
+		evictNow(id);
+	}
+
+	private void invalidateLocal(Long id) {
+		localInvalidations.incrementAndGet();
+		localCache.invalidate(id);
+	}
+
+	/**
+	 * 조회 시작 후 무효화가 없었을 때만 L1 에 남김
+	 * 저장 후 다시 확인하므로 확인과 저장 사이에 도착한 무효화도 놓치지 않음
+	 */
+	private void putToLocal(Long id, Product product, long localVersion) {
+		localCache.put(id, product);
+		if (localInvalidations.get() != localVersion) {
+			localCache.invalidate(id);
+		}
+	}
+
+	private Product getFromRedis(Long id) {
+		try {
+			Product product = productRedisTemplate.opsForValue().get(KEY_PREFIX + id);
+			if (product != null) {
+				redisHits.increment();
+			} else {
+				redisMisses.increment();
+			}
+			return product;
+		} catch (Exception e) {
+			// Redis 장애 시 DB 조회로 대체
+			log.warn("Failed to read product cache: productId={}, error={}", id, e.getMessage());
+			redisMisses.increment();
+			return null;
+		}
+	}
+
+	private List<Product> multiGetFromRedis(List<Long> ids) {
+		try {
+			List<Product> products = productRedisTemplate.opsForValue()
+				.multiGet(ids.stream().map(id -> KEY_PREFIX + id).toList());
+			if (products != null) {
+				long hits = products.stream().filter(Objects::nonNull).count();
+				redisHits.increment(hits);
+				redisMisses.increment(ids.size() - hits);
+			}
+			return products;
+		} catch (Exception e) {
+			log.warn("Failed to read product cache: ids={}, error={}", ids, e.getMessage());
+			redisMisses.increment(ids.size());
+			return null;
+		}
+	}
+
+	/**
+	 * 버전을 읽지 못했으면 (Redis 장애) 저장하지 않음
+	 */
+	private void putToRedis(Long id, String version, Product product) {
+		if (version == null || product == null) {
+			return;
+		}
+		try {
+			if (!writeToRedis(id, version, product, false)) {
+				log.debug("Skipped stale product cache write: productId={}", id);
+			}
+		} catch (Exception e) {
+			log.warn("Failed to write product cache: productId={}, error={}", id, e.getMessage());
+		}
+	}
+
+	private boolean writeToRedis(Long id, String version, Product product, boolean bumpVersion) {
+		Long written = productRedisTemplate.execute(PUT_SCRIPT, RedisSerializer.byteArray(), LONG_RESULT,
+			List.of(KEY_PREFIX + id, VERSION_PREFIX + id),
+			bytes(version),
+			serialize(product),
+			bytes(String.valueOf(redisTtl.toSeconds())),
+			bytes(bumpVersion ? "1" : "0"));
+		return written != null && written == 1;
+	}
+
+	private String getVersion(Long id) {
+		try {
+			return readVersion(id);
+		} catch (Exception e) {
+			log.warn("Failed to read product cache version: productId={}, error={}", id, e.getMessage());
+			return null;
+		}
+	}
+
+	private String readVersion(Long id) {
+		String version = stringRedisTemplate.opsForValue().get(VERSION_PREFIX + id);
+		return version != null ? version : NO_VERSION;
+	}
+
+	private Map<Long, String> getVersions(List<Long> ids) {
+		Map<Long, String> versions = new HashMap<>();
+		try {
+			List<String> values = stringRedisTemplate.opsForValue()
+				.multiGet(ids.stream().map(id -> VERSION_PREFIX + id).toList());
+			for (int i = 0; i < ids.size(); i++) {
+				String version = values != null ? values.get(i) : null;
+				versions.put(ids.get(i), version != null ? version : NO_VERSION);
+			}
+		} catch (Exception e) {
+			log.warn("Failed to read product cache versions: ids={}, error={}", ids, e.getMessage());
+		}
+		return versions;
+	}
+
+	private static Product withStock(Product product, Integer stock) {
+		return Product.builder()
+			.id(product.getId())
+			.name(product.getName())
+			.description(product.getDescription())
+			.price(product.getPrice())
+			.stock(stock)
+			.category(product.getCategory())
+			.createdAt(product.getCreatedAt())
+			.updatedAt(product.getUpdatedAt())
+			.build();
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[] serialize(Product product) {
+		return ((RedisSerializer<Product>) productRedisTemplate.getValueSerializer()).serialize(product);
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,180 @@
+package com.example.mini_shop.cache;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 목록 페이지 캐시 (keyset 페이지 단위)
+ * 페이지에는 상품 id 목록만 저장하고 상품 데이터는 ProductCache 에서 채움
+ * -> 상품 수정은 페이지 캐시에 영향 없음, 상품 추가/삭제/카테고리 변경 시 scope 버전 증가로 전체 무효화
+ *
+ * Redis String key   : product-pages:{scope}:v{version}:{cursor|first}:{size}  (scope = all | category:{name})
+ *              value : {hasNext}|{id},{id},...  (페이지마다 TTL)
+ *        버전  key   : product-pages-version:{scope}
+ *
+ * 캐시 대상 : 첫 페이지 또는 캐시된 페이지의 nextCursor 로 이어지는 페이지, 정해진 size 만
+ * (임의 cursor 요청으로 키가 끝없이 늘어나지 않도록 다음 페이지 자리 표시(marker)가 있는 cursor 만 저장)
+ * DB 조회 전에 읽은 버전으로 저장하므로 조회 중 커밋된 상품 추가/삭제가 있으면 이전 버전 키에 저장되어 읽히지 않음
+ *
+ * 메트릭 : cache.gets{cache=product-pages, result=hit|miss}
+ */
+@Slf4j
+@Component
+public class ProductPageCache {
+
+	public static final String ALL_SCOPE = "all";
+	private static final String KEY_PREFIX = "product-pages:";
+	private static final String VERSION_KEY_PREFIX = "product-pages-version:";
+	private static final String MARKER = "-";
+	private static final Set<Integer> CACHEABLE_SIZES = Set.of(10, 20, 50, 100);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final Duration ttl;
+
+	private final Counter hits;
+	private final Counter misses;
+
+	public ProductPageCache(
+		StringRedisTemplate stringRedisTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${shop.cache.product-page.ttl-minutes:10}") long ttlMinutes) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.ttl = Duration.ofMinutes(ttlMinutes);
+
+		this.hits = meterRegistry.counter("cache.gets", "cache", "product-pages", "result", "hit");
+		this.misses = meterRegistry.counter("cache.gets", "cache", "product-pages", "result", "miss");
+	}
+
+	public static String categoryScope(String category) {
+		return "category:" + category;
+	}
+
+	/**
+	 * 페이지 조회 (DB 조회 전에 호출, 결과의 버전으로 put)
+	 */
+	public Lookup get(String scope, Long cursor, int size) {
+		if (!CACHEABLE_SIZES.contains(size)) {
+			return Lookup.NOT_CACHEABLE;
+		}
+		try {
+			String storedVersion = stringRedisTemplate.opsForValue().get(VERSION_KEY_PREFIX + scope);
+			long version = storedVersion != null ? Long.parseLong(storedVersion) : 0L;
+			String value = stringRedisTemplate.opsForValue().get(key(scope, version, cursor, size));
+
+			if (value != null && !MARKER.equals(value)) {
+				hits.increment();
+				return new Lookup(version, cursor, decode(value), false);
+			}
+			misses.increment();
+			// 첫 페이지이거나 앞 페이지가 남긴 marker 가 있는 cursor 만 저장
+			return new Lookup(version, cursor, null, cursor == null || MARKER.equals(value));
+		} catch (Exception e) {
+			log.warn("Failed to read product page cache: scope={}, error={}", scope, e.getMessage());
+			misses.increment();
+			return Lookup.NOT_CACHEABLE;
+		}
+	}
+
+	/**
+	 * DB 에서 읽은 페이지 저장 + 다음 페이지 자리 표시
+	 */
+	public void put(Lookup lookup, String scope, int size, IdPage page) {
+		if (!lookup.isCacheable()) {
+			return;
+		}
+		try {
+			stringRedisTemplate.opsForValue().set(key(scope, lookup.getVersion(), lookup.getCursor(), size), encode(page), ttl);
+			if (page.isHasNext() && !page.getIds().isEmpty()) {
+				stringRedisTemplate.opsForValue().setIfAbsent(
+					key(scope, lookup.getVersion(), page.lastId(), size), MARKER, ttl);
+			}
+		} catch (Exception e) {
+			log.warn("Failed to write product page cache: scope={}, error={}", scope, e.getMessage());
+		}
+	}
+
+	/**
+	 * 상품이 추가/삭제된 경우 scope 버전 증가 (트랜잭션 커밋 후)
+	 * 이전 버전 페이지는 더 이상 읽히지 않고 TTL 로 만료
+	 */
+	public void invalidate(String scope) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					invalidateNow(scope);
+				}
+			});
+		} else {
+			invalidateNow(scope);
+		}
+	}
+
+	private void invalidateNow(String scope) {
+		try {
+			Long version = stringRedisTemplate.opsForValue().increment(VERSION_KEY_PREFIX + scope);
+			log.debug("Product page cache invalidated: scope={}, version={}", scope, version);
+		} catch (Exception e) {
+			log.error("Failed to invalidate product page cache: scope={}, error={}", scope, e.getMessage());
+		}
+	}
+
+	private String key(String scope, long version, Long cursor, int size) {
+		return KEY_PREFIX + scope + ":v" + version + ":" + (cursor != null ? cursor : "first") + ":" + size;
+	}
+
+	private String encode(IdPage page) {
+		return (page.isHasNext() ? "1" : "0") + "|" + page.getIds().stream()
+			.map(String::valueOf)
+			.collect(Collectors.joining(","));
+	}
+
+	private IdPage decode(String value) {
+		int separator = value.indexOf('|');
+		String ids = value.substring(separator + 1);
+		return new IdPage(
+			ids.isEmpty() ? List.of() : Arrays.stream(ids.split(",")).map(Long::valueOf).toList(),
+			value.charAt(0) == '1'
+		);
+	}
+
+	/**
+	 * 조회 결과 (page 가 null 이면 miss, cacheable 이면 DB 조회 결과를 put)
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class Lookup {
+		static final Lookup NOT_CACHEABLE = new Lookup(0L, null, null, false);
+
+		private final long version;
+		private final Long cursor;
+		private final IdPage page;
+		private final boolean cacheable;
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class IdPage {
+		private final List<Long> ids;
+		private final boolean hasNext;
+
+		long lastId() {
+			return ids.get(ids.size() - 1);
+		}
+	}
+}
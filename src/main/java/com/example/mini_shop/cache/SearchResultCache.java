@@ -0,0 +1,240 @@
+package com.example.mini_shop.cache;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+import com.example.mini_shop.dto.ProductSearchRequest;
+import com.example.mini_shop.dto.ProductSearchResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 검색 결과 2단 캐시
+ * L1 : 로컬 Caffeine, L2 : Redis (JSON)
+ * 키 : 인덱스 세대(generation) + 정규화한 검색 조건 + 페이지(cursor, size) + facet 여부
+ * 검색 인덱스 문서가 바뀔 때마다 세대 번호 증가 (Redis INCR + pub/sub 으로 전체 노드에 전달)
+ * -> 이전 세대 키는 더 이상 조회되지 않고 TTL/크기 제한으로 정리됨 (카탈로그가 바뀌기 전까지 캐시 유지)
+ * Redis 장애로 세대를 올리지 못하면 공유 세대 대신 이 노드의 로컬 epoch 를 올려 키에 포함 (L1 만 사용)
+ *
+ * 메트릭 : search.cache.gets{shape, result=local|redis|miss}
+ *          shape = 검색 조건 조합 (keyword, category, price, facets, next page)
+ */
+@Slf4j
+@Component
+public class SearchResultCache implements MessageListener {
+
+	public static final String GENERATION_CHANNEL = "search-cache:generation";
+	private static final String GENERATION_KEY = "search-cache:generation";
+	private static final String KEY_PREFIX = "search-results:";
+
+	private final Cache<String, ProductSearchResponse> localCache;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+	private final Duration redisTtl;
+
+	private final List<Runnable> generationListeners = new CopyOnWriteArrayList<>();
+	private volatile long generation;
+	// Redis 장애로 세대에 반영하지 못한 변경 횟수 (이 노드만, 세대가 바뀌면 0)
+	private volatile long localEpoch;
+
+	public SearchResultCache(
+		StringRedisTemplate stringRedisTemplate,
+		ObjectMapper objectMapper,
+		RedisMessageListenerContainer listenerContainer,
+		MeterRegistry meterRegistry,
+		@Value("${shop.cache.search.local-max-size:5000}") long localMaxSize,
+		@Value("${shop.cache.search.local-ttl-minutes:10}") long localTtlMinutes,
+		@Value("${shop.cache.search.redis-ttl-minutes:30}") long redisTtlMinutes) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.objectMapper = objectMapper;
+		this.meterRegistry = meterRegistry;
+		this.redisTtl = Duration.ofMinutes(redisTtlMinutes);
+
+		this.localCache = Caffeine.newBuilder()
+			.maximumSize(localMaxSize)
+			.expireAfterWrite(Duration.ofMinutes(localTtlMinutes))
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, localCache, "search-local");
+
+		listenerContainer.addMessageListener(this, new ChannelTopic(GENERATION_CHANNEL));
+		syncGeneration();
+	}
+
+	/**
+	 * L1 -> L2 -> loader(ES 검색) 순서로 조회
+	 */
+	public ProductSearchResponse get(ProductSearchRequest request, int size, boolean withFacets,
+		Supplier<ProductSearchResponse> loader) {
+		String shape = shape(request, withFacets);
+		long epoch = localEpoch;
+		// 로컬 epoch 가 있으면 다른 노드와 공유하는 Redis 키를 쓰지 않음 (다른 노드는 이 변경을 모름)
+		boolean shared = epoch == 0;
+		String key = generation + (shared ? "" : "." + epoch) + ":" + DigestUtils.md5DigestAsHex(
+			normalize(request, size, withFacets).getBytes(StandardCharsets.UTF_8));
+
+		ProductSearchResponse response = localCache.getIfPresent(key);
+		if (response != null) {
+			record(shape, "local");
+			return response;
+		}
+
+		response = shared ? getFromRedis(key) : null;
+		if (response != null) {
+			record(shape, "redis");
+		} else {
+			record(shape, "miss");
+			response = loader.get();
+			if (shared) {
+				putToRedis(key, response);
+			}
+		}
+
+		localCache.put(key, response);
+		return response;
+	}
+
+	/**
+	 * 검색 인덱스 문서 변경 후 호출 -> 세대 증가, 다른 노드에 전달
+	 */
+	public void bumpGeneration() {
+		try {
+			Long next = stringRedisTemplate.opsForValue().increment(GENERATION_KEY);
+			if (next != null) {
+				updateGeneration(next);
+				stringRedisTemplate.convertAndSend(GENERATION_CHANNEL, String.valueOf(next));
+			}
+		} catch (Exception e) {
+			// Redis 장애 시 이 노드만이라도 무효화 (공유 세대를 올리면 다음 실제 세대가 무시되므로 로컬 epoch 사용)
+			bumpLocalEpoch();
+			log.error("Failed to bump search cache generation: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 세대 변경 시 실행할 작업 등록 (이 노드 변경, pub/sub 수신, 주기 동기화 모두 포함)
+	 */
+	public void onGenerationChange(Runnable listener) {
+		generationListeners.add(listener);
+	}
+
+	/**
+	 * 다른 노드에서 발행한 세대 번호 수신
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		try {
+			updateGeneration(Long.parseLong(body));
+		} catch (NumberFormatException e) {
+			log.warn("Invalid search cache generation message: {}", body);
+		}
+	}
+
+	/**
+	 * pub/sub 메시지 유실 대비 주기적으로 Redis 세대 번호와 동기화
+	 */
+	@Scheduled(fixedDelayString = "${shop.cache.search.generation-sync-millis:5000}")
+	public void syncGeneration() {
+		try {
+			String value = stringRedisTemplate.opsForValue().get(GENERATION_KEY);
+			if (value != null) {
+				updateGeneration(Long.parseLong(value));
+			}
+		} catch (Exception e) {
+			log.warn("Failed to read search cache generation: {}", e.getMessage());
+		}
+	}
+
+	private synchronized void updateGeneration(long next) {
+		if (next > generation) {
+			log.debug("Search cache generation changed: {} -> {}", generation, next);
+			generation = next;
+			localEpoch = 0;
+			generationListeners.forEach(Runnable::run);
+		}
+	}
+
+	private synchronized void bumpLocalEpoch() {
+		localEpoch++;
+		log.debug("Search cache local epoch changed: generation={}, epoch={}", generation, localEpoch);
+		generationListeners.forEach(Runnable::run);
+	}
+
+	private ProductSearchResponse getFromRedis(String key) {
+		try {
+			String value = stringRedisTemplate.opsForValue().get(KEY_PREFIX + key);
+			return value != null ? objectMapper.readValue(value, ProductSearchResponse.class) : null;
+		} catch (Exception e) {
+			// Redis 장애 시 ES 검색으로 대체
+			log.warn("Failed to read search cache: error={}", e.getMessage());
+			return null;
+		}
+	}
+
+	private void putToRedis(String key, ProductSearchResponse response) {
+		try {
+			stringRedisTemplate.opsForValue().set(KEY_PREFIX + key, objectMapper.writeValueAsString(response), redisTtl);
+		} catch (Exception e) {
+			log.warn("Failed to write search cache: error={}", e.getMessage());
+		}
+	}
+
+	private void record(String shape, String result) {
+		meterRegistry.counter("search.cache.gets", "shape", shape, "result", result).increment();
+	}
+
+	// 같은 검색이 같은 키가 되도록 정규화 (공백/대소문자, 가격 표기 차이 제거)
+	private static String normalize(ProductSearchRequest request, int size, boolean withFacets) {
+		String keyword = StringUtils.hasText(request.getKeyword())
+			? request.getKeyword().trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT)
+			: "";
+		String category = StringUtils.hasText(request.getCategory()) ? request.getCategory() : "";
+		return keyword + "|" + category + "|" + price(request.getMinPrice()) + "|" + price(request.getMaxPrice())
+			+ "|" + (request.getCursor() != null ? request.getCursor() : "") + "|" + size + "|" + withFacets;
+	}
+
+	private static String price(BigDecimal price) {
+		return price != null ? price.stripTrailingZeros().toPlainString() : "";
+	}
+
+	// 검색 조건 조합 (메트릭 태그, 값은 포함하지 않음)
+	private static String shape(ProductSearchRequest request, boolean withFacets) {
+		StringBuilder shape = new StringBuilder(StringUtils.hasText(request.getKeyword()) ? "keyword" : "all");
+		if (StringUtils.hasText(request.getCategory())) {
+			shape.append("+category");
+		}
+		if (request.getMinPrice() != null || request.getMaxPrice() != null) {
+			shape.append("+price");
+		}
+		if (withFacets) {
+			shape.append("+facets");
+		}
+		if (request.getCursor() != null) {
+			shape.append("+next");
+		}
+		return shape.toString();
+	}
+}
@@ -0,0 +1,93 @@
+package com.example.mini_shop.config;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * API 동시 처리 요청 수 제한 (virtual thread 모드 전용)
+ * 플랫폼 스레드 모드에서는 Tomcat max-threads(200) 가 동시 요청 수 상한이지만
+ * virtual thread 는 요청마다 새로 만들어지므로 상한이 없음
+ * 허용 수를 넘는 요청은 acquireTimeout 까지 대기 후 503 (Hikari/Redis 대기열이 끝없이 길어지지 않도록)
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+	private final Semaphore permits;
+	private final long acquireTimeoutMillis;
+	private final Counter rejected;
+
+	public ConcurrencyLimitFilter(int maxConcurrentRequests, long acquireTimeoutMillis, MeterRegistry meterRegistry) {
+		this.permits = new Semaphore(maxConcurrentRequests);
+		this.acquireTimeoutMillis = acquireTimeoutMillis;
+		this.rejected = meterRegistry.counter("http.server.requests.rejected");
+		Gauge.builder("http.server.requests.in-flight", permits, semaphore -> maxConcurrentRequests - semaphore.availablePermits())
+			.register(meterRegistry);
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		boolean acquired;
+		try {
+			acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			acquired = false;
+		}
+
+		if (!acquired) {
+			rejected.increment();
+			log.debug("Too many concurrent requests, rejecting: {} {}", request.getMethod(), request.getRequestURI());
+			response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+			return;
+		}
+
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			if (request.isAsyncStarted()) {
+				// StreamingResponseBody 등 비동기 응답은 응답이 끝날 때 반환
+				request.getAsyncContext().addListener(new ReleaseOnComplete());
+			} else {
+				permits.release();
+			}
+		}
+	}
+
+	private class ReleaseOnComplete implements AsyncListener {
+
+		@Override
+		public void onComplete(AsyncEvent event) {
+			permits.release();
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent event) {
+		}
+
+		@Override
+		public void onError(AsyncEvent event) {
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+			// 같은 요청에서 비동기 처리를 다시 시작하면 리스너를 다시 등록
+			event.getAsyncContext().addListener(this);
+		}
+	}
+}
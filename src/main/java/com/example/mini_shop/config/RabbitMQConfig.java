@@ -1,18 +1,32 @@
 package com.example.mini_shop.config;
 
+import org.springframework.amqp.core.AmqpAdmin;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.QueueInformation;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.ConditionalRejectingErrorHandler;
+import org.springframework.amqp.rabbit.listener.FatalExceptionStrategy;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import com.example.mini_shop.messaging.ListenerMetricsAdvice;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 
 @Configuration
 public class RabbitMQConfig {
@@ -57,17 +71,84 @@ public class RabbitMQConfig {
 
 	/**
 	 * Listener Container Factory
+	 * 동시 consumer 수가 listener 의 DB/Redis 동시 사용 상한 (virtual thread 모드에서도 동일)
+	 */
+	@Bean
+	public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(ConnectionFactory connectionFactory,
+		MeterRegistry meterRegistry,
+		Environment environment,
+		@Value("${shop.rabbitmq.concurrent-consumers:3}") int concurrentConsumers,
+		@Value("${shop.rabbitmq.max-concurrent-consumers:10}") int maxConcurrentConsumers) {
+		SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+		factory.setConnectionFactory(connectionFactory);
+		factory.setMessageConverter(jsonMessageConverter());
+		applyErrorHandling(factory, meterRegistry);
+		factory.setConcurrentConsumers(concurrentConsumers);
+		factory.setMaxConcurrentConsumers(maxConcurrentConsumers);
+		applyThreading(factory, environment, "rabbit-listener-");
+		return factory;
+	}
+
+	/**
+	 * Batch Listener Container Factory
+	 * batchSize 개 또는 receiveTimeout 까지 모은 메시지를 List 로 한 번에 전달, batch 단위로 ack
+	 * 같은 상품 이벤트 순서 유지를 위해 consumer 1개
 	 */
 	@Bean
-	public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(ConnectionFactory connectionFactory) {
+	public SimpleRabbitListenerContainerFactory batchRabbitListenerContainerFactory(
+		ConnectionFactory connectionFactory,
+		MeterRegistry meterRegistry,
+		Environment environment,
+		@Value("${shop.search.index-batch-size:100}") int batchSize,
+		@Value("${shop.search.index-batch-timeout-millis:200}") long receiveTimeout) {
 		SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
 		factory.setConnectionFactory(connectionFactory);
 		factory.setMessageConverter(jsonMessageConverter());
-		factory.setConcurrentConsumers(3);
-		factory.setMaxConcurrentConsumers(10);
+		factory.setConcurrentConsumers(1);
+		factory.setMaxConcurrentConsumers(1);
+		factory.setBatchListener(true);
+		factory.setConsumerBatchEnabled(true);
+		factory.setBatchSize(batchSize);
+		factory.setPrefetchCount(batchSize);
+		factory.setReceiveTimeout(receiveTimeout);
+		applyErrorHandling(factory, meterRegistry);
+		applyThreading(factory, environment, "rabbit-batch-listener-");
 		return factory;
 	}
 
+	/**
+	 * fatal 예외(메시지 변환 실패 등)는 requeue 없이 DLQ 로 보내고, 메트릭도 같은 기준으로 분류
+	 */
+	private void applyErrorHandling(SimpleRabbitListenerContainerFactory factory, MeterRegistry meterRegistry) {
+		FatalExceptionStrategy fatalExceptionStrategy = new ConditionalRejectingErrorHandler.DefaultExceptionStrategy();
+		factory.setErrorHandler(new ConditionalRejectingErrorHandler(fatalExceptionStrategy));
+		factory.setAdviceChain(new ListenerMetricsAdvice(meterRegistry, fatalExceptionStrategy));
+	}
+
+	/**
+	 * virtual thread 모드면 consumer 를 virtual thread 로 실행 (Spring Boot 기본 factory 설정과 동일)
+	 */
+	private void applyThreading(SimpleRabbitListenerContainerFactory factory, Environment environment,
+		String threadNamePrefix) {
+		if (Threading.VIRTUAL.isActive(environment)) {
+			SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+			executor.setVirtualThreads(true);
+			factory.setTaskExecutor(executor);
+		}
+	}
+
+	/**
+	 * DLQ 에 쌓인 메시지 수 (메트릭 조회 시점에 broker 에서 조회)
+	 */
+	@Bean
+	public MeterBinder deadLetterQueueMetrics(AmqpAdmin amqpAdmin) {
+		return registry -> Gauge.builder("rabbitmq.dlq.messages", amqpAdmin, admin -> {
+				QueueInformation queue = admin.getQueueInfo(DLQ_QUEUE);
+				return queue != null ? queue.getMessageCount() : Double.NaN;
+			})
+			.register(registry);
+	}
+
 	/**
 	 * Main Exchange (Topic)
 	 */
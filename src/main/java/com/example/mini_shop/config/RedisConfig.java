@@ -2,6 +2,7 @@ package com.example.mini_shop.config;
 
 import java.time.Duration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,20 +10,27 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.example.mini_shop.entity.Product;
+import com.example.mini_shop.model.CartItem;
+import com.example.mini_shop.serializer.CartItemRedisSerializer;
+import com.example.mini_shop.serializer.ProductRedisSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
-import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 @Configuration
 @EnableCaching
 public class RedisConfig {
 
+	// 바이너리 값이 이 크기(byte) 이상이면 압축 저장
+	@Value("${shop.redis.compression-threshold:512}")
+	private int compressionThreshold;
+
 	@Bean
 	public ObjectMapper redisObjectMapper() {
 		ObjectMapper mapper = new ObjectMapper();
@@ -31,12 +39,6 @@ public class RedisConfig {
 		// timestamp 형식 대신 ISO-8601 형식 사용
 		mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
-		// // 다형성 타입 처리를 위한 설정 (LinkedHashMap 문제 해결)
-		// PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator.builder()
-		// 	.allowIfBaseType(Object.class)
-		// 	.build();
-		// mapper.activateDefaultTyping(ptv, ObjectMapper.DefaultTyping.NON_FINAL);
-
 		// 타입 정보 포함하지 않음 (깔끔한 JSON)
 		mapper.deactivateDefaultTyping();
 
@@ -62,6 +64,45 @@ public class RedisConfig {
 		return template;
 	}
 
+	/**
+	 * 장바구니용 RedisTemplate
+	 * Hash 값은 CartItem 바이너리 포맷으로 저장 (기존 JSON 값도 읽기 가능)
+	 */
+	@Bean
+	public RedisTemplate<String, CartItem> cartRedisTemplate(RedisConnectionFactory connectionFactory) {
+		RedisTemplate<String, CartItem> template = new RedisTemplate<>();
+		template.setConnectionFactory(connectionFactory);
+		template.setKeySerializer(new StringRedisSerializer());
+		template.setHashKeySerializer(new StringRedisSerializer());
+		template.setHashValueSerializer(new CartItemRedisSerializer(redisObjectMapper(), compressionThreshold));
+		template.afterPropertiesSet();
+		return template;
+	}
+
+	/**
+	 * 상품 단건 캐시용 RedisTemplate
+	 * Product 바이너리 포맷으로 저장, 설명이 긴 상품은 압축 (기존 JSON 값도 읽기 가능)
+	 */
+	@Bean
+	public RedisTemplate<String, Product> productRedisTemplate(RedisConnectionFactory connectionFactory) {
+		RedisTemplate<String, Product> template = new RedisTemplate<>();
+		template.setConnectionFactory(connectionFactory);
+		template.setKeySerializer(new StringRedisSerializer());
+		template.setValueSerializer(new ProductRedisSerializer(redisObjectMapper(), compressionThreshold));
+		template.afterPropertiesSet();
+		return template;
+	}
+
+	/**
+	 * Redis pub/sub 리스너 컨테이너 (캐시 무효화 메시지 수신)
+	 */
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		return container;
+	}
+
 	@Bean
 	public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
 		GenericJackson2JsonRedisSerializer serializer =
@@ -0,0 +1,52 @@
+package com.example.mini_shop.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * virtual thread 모드 설정 (spring.threads.virtual.enabled=true + Java 21 이상에서만 적용)
+ * Tomcat 요청 처리, applicationTaskExecutor, @Scheduled 는 Spring Boot 가 virtual thread 로 전환
+ * RabbitMQ listener 는 RabbitMQConfig 에서 전환
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+	/**
+	 * API 동시 요청 수 제한
+	 * max-concurrent-requests 를 지정하지 않으면 Hikari 풀 크기 × requests-per-connection
+	 * (대부분의 요청이 DB 커넥션을 바로 얻도록 하여 Hikari 대기열이 길어지지 않게 함)
+	 */
+	@Bean
+	public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+		MeterRegistry meterRegistry,
+		DataSource dataSource,
+		@Value("${shop.virtual-threads.max-concurrent-requests:0}") int maxConcurrentRequests,
+		@Value("${shop.virtual-threads.requests-per-connection:2}") int requestsPerConnection,
+		@Value("${shop.virtual-threads.acquire-timeout-millis:1000}") long acquireTimeoutMillis) {
+		int permits = maxConcurrentRequests;
+		if (permits <= 0) {
+			int poolSize = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 10;
+			permits = poolSize * requestsPerConnection;
+		}
+		log.info("API concurrency limit: {} requests", permits);
+
+		FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+			new ConcurrencyLimitFilter(permits, acquireTimeoutMillis, meterRegistry));
+		registration.addUrlPatterns("/api/*");
+		registration.setAsyncSupported(true);
+		return registration;
+	}
+}
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.mini_shop.dto.CartBatchRequest;
 import com.example.mini_shop.dto.CartRequest;
 import com.example.mini_shop.model.CartItem;
 import com.example.mini_shop.service.CartService;
@@ -29,12 +30,12 @@ public class CartController {
 
 	@PostMapping
 	public ResponseEntity<Void> addToCart(@RequestBody CartRequest request) {
-		log.info("API Request: POST /api/cart - userId: {}, productId: {}, quantity: {}",
+		log.debug("API Request: POST /api/cart - userId: {}, productId: {}, quantity: {}",
 			request.getUserId(), request.getProductId(), request.getQuantity());
 
 		try {
 			cartService.addToCart(request.getUserId(), request.getProductId(), request.getQuantity());
-			log.info("API Response: Item added to cart successfully");
+			log.debug("API Response: Item added to cart successfully");
 			return ResponseEntity.ok().build();
 		} catch (Exception e) {
 			log.error("API Error: Failed to add item to cart - {}", e.getMessage());
@@ -42,22 +43,37 @@ public class CartController {
 		}
 	}
 
+	@PostMapping("/batch")
+	public ResponseEntity<Void> applyBatch(@RequestBody CartBatchRequest request) {
+		log.debug("API Request: POST /api/cart/batch - userId: {}, lines: {}",
+			request.getUserId(), request.getItems() != null ? request.getItems().size() : 0);
+
+		try {
+			cartService.applyBatch(request.getUserId(), request.getItems());
+			log.debug("API Response: Cart batch applied successfully");
+			return ResponseEntity.ok().build();
+		} catch (Exception e) {
+			log.error("API Error: Failed to apply cart batch - {}", e.getMessage());
+			throw e;
+		}
+	}
+
 	@GetMapping("/{userId}")
 	public ResponseEntity<List<CartItem>> getCart(@PathVariable String userId) {
-		log.info("API Request: GET /api/cart/{}", userId);
+		log.debug("API Request: GET /api/cart/{}", userId);
 		List<CartItem> cartItems = cartService.getCart(userId);
-		log.info("API Response: Returning {} items in cart for user: {}", cartItems.size(), userId);
+		log.debug("API Response: Returning {} items in cart for user: {}", cartItems.size(), userId);
 		return ResponseEntity.ok(cartItems);
 	}
 
 	@PutMapping
 	public ResponseEntity<Void> updateCartItem(@RequestBody CartRequest request) {
-		log.info("API Request: PUT /api/cart - userId: {}, productId: {}, newQuantity: {}",
+		log.debug("API Request: PUT /api/cart - userId: {}, productId: {}, newQuantity: {}",
 			request.getUserId(), request.getProductId(), request.getQuantity());
 
 		try {
 			cartService.updateCartItem(request.getUserId(), request.getProductId(), request.getQuantity());
-			log.info("API Response: Cart item updated successfully");
+			log.debug("API Response: Cart item updated successfully");
 			return ResponseEntity.ok().build();
 		} catch (Exception e) {
 			log.error("API Error: Failed to update cart item - {}", e.getMessage());
@@ -69,17 +85,17 @@ public class CartController {
 	public ResponseEntity<Void> removeFromCart(
 		@PathVariable String userId,
 		@PathVariable Long productId) {
-		log.info("API Request: DELETE /api/cart/{}/{} - Removing item from cart", userId, productId);
+		log.debug("API Request: DELETE /api/cart/{}/{} - Removing item from cart", userId, productId);
 		cartService.removeFromCart(userId, productId);
-		log.info("API Response: Item removed from cart successfully");
+		log.debug("API Response: Item removed from cart successfully");
 		return ResponseEntity.noContent().build();
 	}
 
 	@DeleteMapping("/{userId}")
 	public ResponseEntity<Void> clearCart(@PathVariable String userId) {
-		log.info("API Request: DELETE /api/cart/{} - Clearing cart", userId);
+		log.debug("API Request: DELETE /api/cart/{} - Clearing cart", userId);
 		cartService.clearCart(userId);
-		log.info("API Response: Cart cleared successfully for user: {}", userId);
+		log.debug("API Response: Cart cleared successfully for user: {}", userId);
 		return ResponseEntity.noContent().build();
 	}
 }
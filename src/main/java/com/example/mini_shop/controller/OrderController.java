@@ -1,8 +1,7 @@
 package com.example.mini_shop.controller;
 
-import java.util.List;
-
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -12,8 +11,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.mini_shop.dto.OrderDetailResponse;
+import com.example.mini_shop.dto.OrderPageResponse;
 import com.example.mini_shop.dto.OrderRequest;
+import com.example.mini_shop.dto.OrderSummaryResponse;
 import com.example.mini_shop.entity.Order;
 import com.example.mini_shop.service.OrderService;
 
@@ -28,9 +31,11 @@ public class OrderController {
 
 	private final OrderService orderService;
 
+	private static final int MAX_PAGE_SIZE = 100;
+
 	@PostMapping
-	public ResponseEntity<Order> createOrder(@RequestBody OrderRequest request) {
-		log.info("API Request: POST /api/orders - userId: {}, customer: {}, email: {}",
+	public ResponseEntity<OrderDetailResponse> createOrder(@RequestBody OrderRequest request) {
+		log.debug("API Request: POST /api/orders - userId: {}, customer: {}, email: {}",
 			request.getUserId(), request.getCustomerName(), request.getCustomerEmail());
 
 		try {
@@ -39,9 +44,9 @@ public class OrderController {
 				request.getCustomerName(),
 				request.getCustomerEmail()
 			);
-			log.info("API Response: Order created successfully with id: {}, totalAmount: {}",
+			log.debug("API Response: Order created successfully with id: {}, totalAmount: {}",
 				order.getId(), order.getTotalAmount());
-			return ResponseEntity.status(HttpStatus.CREATED).body(order);
+			return ResponseEntity.status(HttpStatus.CREATED).body(OrderDetailResponse.from(order));
 		} catch (Exception e) {
 			log.error("API Error: Failed to create order - {}", e.getMessage());
 			throw e;
@@ -49,37 +54,61 @@ public class OrderController {
 	}
 
 	@GetMapping("/{id}")
-	public ResponseEntity<Order> getOrder(@PathVariable Long id) {
-		log.info("API Request: GET /api/orders/{}", id);
-		Order order = orderService.getOrder(id);
-		log.info("API Response: Order {} retrieved - status: {}, items: {}",
+	public ResponseEntity<OrderDetailResponse> getOrder(@PathVariable Long id) {
+		log.debug("API Request: GET /api/orders/{}", id);
+		OrderDetailResponse order = orderService.getOrder(id);
+		log.debug("API Response: Order {} retrieved - status: {}, items: {}",
 			id, order.getStatus(), order.getOrderItems().size());
 		return ResponseEntity.ok(order);
 	}
 
 	@GetMapping("/customer/{email}")
-	public ResponseEntity<List<Order>> getOrdersByEmail(@PathVariable String email) {
-		log.info("API Request: GET /api/orders/customer/{}", email);
-		List<Order> orders = orderService.getOrdersByEmail(email);
-		log.info("API Response: Found {} orders for customer: {}", orders.size(), email);
-		return ResponseEntity.ok(orders);
+	public ResponseEntity<OrderPageResponse<OrderDetailResponse>> getOrdersByEmail(
+		@PathVariable String email,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size) {
+		log.debug("API Request: GET /api/orders/customer/{} - cursor: {}, size: {}", email, cursor, size);
+		OrderPageResponse<OrderDetailResponse> page = orderService.getOrdersByEmail(email, cursor, pageSize(size));
+		log.debug("API Response: Found {} orders for customer: {}", page.getItems().size(), email);
+		return ResponseEntity.ok(page);
 	}
 
 	@GetMapping
-	public ResponseEntity<List<Order>> getAllOrders() {
-		log.info("API Request: GET /api/orders - Get all orders");
-		List<Order> orders = orderService.getAllOrders();
-		log.info("API Response: Returning {} orders", orders.size());
-		return ResponseEntity.ok(orders);
+	public ResponseEntity<OrderPageResponse<OrderSummaryResponse>> getAllOrders(
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size) {
+		log.debug("API Request: GET /api/orders - cursor: {}, size: {}", cursor, size);
+		OrderPageResponse<OrderSummaryResponse> page = orderService.getAllOrders(cursor, pageSize(size));
+		log.debug("API Response: Returning {} orders", page.getItems().size());
+		return ResponseEntity.ok(page);
+	}
+
+	/**
+	 * 전체 주문 내역 NDJSON 스트리밍 내보내기
+	 */
+	@GetMapping(value = "/export", produces = "application/x-ndjson")
+	public ResponseEntity<StreamingResponseBody> exportOrders() {
+		log.info("API Request: GET /api/orders/export");
+		StreamingResponseBody body = outputStream -> {
+			long count = orderService.exportOrders(outputStream);
+			log.info("API Response: Exported {} orders", count);
+		};
+		return ResponseEntity.ok()
+			.contentType(MediaType.parseMediaType("application/x-ndjson"))
+			.body(body);
 	}
 
 	@PatchMapping("/{id}/status")
-	public ResponseEntity<Order> updateOrderStatus(
+	public ResponseEntity<OrderDetailResponse> updateOrderStatus(
 		@PathVariable Long id,
 		@RequestParam Order.OrderStatus status) {
 		log.info("API Request: PATCH /api/orders/{}/status - newStatus: {}", id, status);
-		Order order = orderService.updateOrderStatus(id, status);
+		OrderDetailResponse order = orderService.updateOrderStatus(id, status);
 		log.info("API Response: Order {} status updated to {}", id, status);
 		return ResponseEntity.ok(order);
 	}
+
+	private int pageSize(int size) {
+		return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+	}
 }
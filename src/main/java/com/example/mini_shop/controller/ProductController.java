@@ -6,6 +6,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -14,10 +15,16 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.example.mini_shop.document.ProductDocument;
+import com.example.mini_shop.dto.ProductPageResponse;
+import com.example.mini_shop.dto.ProductSearchRequest;
+import com.example.mini_shop.dto.ProductSearchResponse;
+import com.example.mini_shop.dto.ReindexStatusResponse;
 import com.example.mini_shop.entity.Product;
+import com.example.mini_shop.service.ProductReindexService;
+import com.example.mini_shop.service.ProductSearchService;
 import com.example.mini_shop.service.ProductService;
-import com.example.mini_shop.service.RecentViewService;
+import com.example.mini_shop.service.ProductSuggestService;
+import com.example.mini_shop.service.RecentViewRecorder;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,39 +36,47 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductController {
 
 	private final ProductService productService;
-	private final RecentViewService recentViewService;
+	private final ProductSearchService productSearchService;
+	private final RecentViewRecorder recentViewRecorder;
+	private final ProductReindexService productReindexService;
+	private final ProductSuggestService productSuggestService;
+
+	private static final int MAX_PAGE_SIZE = 100;
+	private static final int MAX_SUGGEST_SIZE = 10;
 
 	@GetMapping
-	public ResponseEntity<List<Product>> getAllProducts() {
-		log.info("API Request: GET /api/products - Get all products");
-		List<Product> products = productService.getAllProducts();
-		log.info("API Response: Returning {} products", products.size());
-		return ResponseEntity.ok(products);
+	public ResponseEntity<ProductPageResponse> getProducts(
+		@RequestParam(required = false) Long cursor,
+		@RequestParam(defaultValue = "20") int size) {
+		log.debug("API Request: GET /api/products - cursor: {}, size: {}", cursor, size);
+		ProductPageResponse page = productService.getProducts(null, cursor, pageSize(size));
+		log.debug("API Response: Returning {} products, nextCursor: {}", page.getItems().size(), page.getNextCursor());
+		return ResponseEntity.ok(page);
 	}
 
 	@GetMapping("/{id}")
 	public ResponseEntity<Product> getProduct(
 		@PathVariable Long id,
 		@RequestParam(required = false) String userId) {
-		log.info("API Request: GET /api/products/{} - userId: {}", id, userId);
+		log.debug("API Request: GET /api/products/{} - userId: {}", id, userId);
 
 		Product product = productService.getProduct(id);
 
-		// userId가 제공된 경우 최근 본 상품에 추가
+		// userId가 제공된 경우 최근 본 상품에 추가 (비동기, Redis 응답을 기다리지 않음)
 		if (userId != null && !userId.isEmpty()) {
-			log.debug("Adding product {} to recent views for user: {}", id, userId);
-			recentViewService.addRecentView(userId, id);
+			log.debug("Recording recent view of product {} for user: {}", id, userId);
+			recentViewRecorder.record(userId, id);
 		}
 
-		log.info("API Response: Product {} retrieved successfully", id);
+		log.debug("API Response: Product {} retrieved successfully", id);
 		return ResponseEntity.ok(product);
 	}
 
 	@PostMapping
 	public ResponseEntity<Product> createProduct(@RequestBody Product product) {
-		log.info("API Request: POST /api/products - Creating product: {}", product.getName());
+		log.debug("API Request: POST /api/products - Creating product: {}", product.getName());
 		Product createdProduct = productService.createProduct(product);
-		log.info("API Response: Product created with id: {}", createdProduct.getId());
+		log.debug("API Response: Product created with id: {}", createdProduct.getId());
 		return ResponseEntity.status(HttpStatus.CREATED).body(createdProduct);
 	}
 
@@ -69,35 +84,86 @@ public class ProductController {
 	public ResponseEntity<Product> updateProduct(
 		@PathVariable Long id,
 		@RequestBody Product product) {
-		log.info("API Request: PUT /api/products/{} - Updating product", id);
+		log.debug("API Request: PUT /api/products/{} - Updating product", id);
 		Product updatedProduct = productService.updateProduct(id, product);
-		log.info("API Response: Product {} updated successfully", id);
+		log.debug("API Response: Product {} updated successfully", id);
 		return ResponseEntity.ok(updatedProduct);
 	}
 
 	@DeleteMapping("/{id}")
 	public ResponseEntity<Void> deleteProduct(@PathVariable Long id) {
-		log.info("API Request: DELETE /api/products/{} - Deleting product", id);
+		log.debug("API Request: DELETE /api/products/{} - Deleting product", id);
 		productService.deleteProduct(id);
-		log.info("API Response: Product {} deleted successfully", id);
+		log.debug("API Response: Product {} deleted successfully", id);
 		return ResponseEntity.noContent().build();
 	}
 
 	@GetMapping("/search")
-	public ResponseEntity<List<ProductDocument>> searchProducts(
-		@RequestParam String keyword) {
-		log.info("API Request: GET /api/products/search - keyword: {}", keyword);
-		List<ProductDocument> results = productService.searchProducts(keyword);
-		log.info("API Response: Found {} products for keyword: {}", results.size(), keyword);
+	public ResponseEntity<ProductSearchResponse> searchProducts(@ModelAttribute ProductSearchRequest request) {
+		log.debug("API Request: GET /api/products/search - keyword: {}, cursor: {}",
+			request.getKeyword(), request.getCursor());
+		ProductSearchResponse results = productSearchService.search(request, pageSize(request.getSize()));
+		log.debug("API Response: Found {} products for keyword: {}", results.getItems().size(), request.getKeyword());
+		return ResponseEntity.ok(results);
+	}
+
+	/**
+	 * 검색 결과 + facet (카테고리별 상품 수, 가격 구간별 상품 수) 를 ES 요청 1회로 조회
+	 */
+	@GetMapping("/search/facets")
+	public ResponseEntity<ProductSearchResponse> searchProductsWithFacets(@ModelAttribute ProductSearchRequest request) {
+		log.debug("API Request: GET /api/products/search/facets - keyword: {}, category: {}",
+			request.getKeyword(), request.getCategory());
+		ProductSearchResponse results = productSearchService.searchWithFacets(request, pageSize(request.getSize()));
+		log.debug("API Response: Found {} products, {} categories", results.getItems().size(),
+			results.getFacets().getCategories().size());
 		return ResponseEntity.ok(results);
 	}
 
+	/**
+	 * 상품명 자동완성 (키 입력마다 호출, 요청/응답 로그는 debug)
+	 */
+	@GetMapping("/suggest")
+	public ResponseEntity<List<String>> suggestProducts(
+		@RequestParam String prefix,
+		@RequestParam(defaultValue = "10") int size) {
+		log.debug("API Request: GET /api/products/suggest - prefix: {}", prefix);
+		List<String> suggestions = productSuggestService.suggest(prefix, Math.max(1, Math.min(size, MAX_SUGGEST_SIZE)));
+		log.debug("API Response: {} suggestions for prefix: {}", suggestions.size(), prefix);
+		return ResponseEntity.ok(suggestions);
+	}
+
 	@GetMapping("/category/{category}")
-	public ResponseEntity<List<Product>> getProductsByCategory(
-		@PathVariable String category) {
-		log.info("API Request: GET /api/products/category/{}", category);
-		List<Product> products = productService.getProductsByCategory(category);
-		log.info("API Response: Found {} products in category: {}", products.size(), category);
-		return ResponseEntity.ok(products);
+	public ResponseEntity<ProductPageResponse> getProductsByCategory(
+		@PathVariable String category,
+		@RequestParam(required = false) Long cursor,
+		@RequestParam(defaultValue = "20") int size) {
+		log.debug("API Request: GET /api/products/category/{} - cursor: {}, size: {}", category, cursor, size);
+		ProductPageResponse page = productService.getProducts(category, cursor, pageSize(size));
+		log.debug("API Response: Found {} products in category: {}", page.getItems().size(), category);
+		return ResponseEntity.ok(page);
+	}
+
+	/**
+	 * 검색 인덱스 전체 재색인 시작 (백그라운드 실행)
+	 */
+	@PostMapping("/reindex")
+	public ResponseEntity<ReindexStatusResponse> startReindex() {
+		log.info("API Request: POST /api/products/reindex");
+		ReindexStatusResponse status = productReindexService.startReindex();
+		log.info("API Response: Reindex started into index: {}", status.getTargetIndex());
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
+	}
+
+	/**
+	 * 재색인 진행 상태 조회
+	 */
+	@GetMapping("/reindex")
+	public ResponseEntity<ReindexStatusResponse> getReindexStatus() {
+		return ResponseEntity.ok(productReindexService.getStatus());
+	}
+
+	private int pageSize(int size) {
+		return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
 	}
 }
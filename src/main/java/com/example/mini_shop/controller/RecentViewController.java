@@ -11,7 +11,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.example.mini_shop.entity.Product;
+import com.example.mini_shop.dto.ProductSummaryResponse;
 import com.example.mini_shop.service.RecentViewService;
 
 import lombok.RequiredArgsConstructor;
@@ -40,7 +40,7 @@ public class RecentViewController {
 	 * 최근 본 상품 목록 조회
 	 */
 	@GetMapping("/{userId}")
-	public ResponseEntity<List<Product>> getRecentViews(@PathVariable String userId) {
+	public ResponseEntity<List<ProductSummaryResponse>> getRecentViews(@PathVariable String userId) {
 		return ResponseEntity.ok(recentViewService.getRecentViews(userId));
 	}
 
@@ -1,11 +1,18 @@
 package com.example.mini_shop.document;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.CompletionField;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
+import org.springframework.data.elasticsearch.annotations.Setting;
+import org.springframework.data.elasticsearch.core.suggest.Completion;
 
 import com.example.mini_shop.entity.Product;
 
@@ -15,7 +22,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-@Document(indexName = "products")
+@Document(indexName = ProductDocument.INDEX_ALIAS)
+@Setting(settingPath = "elasticsearch/product-settings.json")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,13 +31,24 @@ import lombok.Setter;
 @Builder
 public class ProductDocument {
 
+	// 검색/색인은 alias 로 접근, 실제 인덱스는 재색인 시 products_v{버전} 으로 생성
+	public static final String INDEX_ALIAS = "products";
+
+	// search_after 정렬 동점 처리용으로 keyword 매핑
 	@Id
+	@Field(type = FieldType.Keyword)
 	private String id;
 
-	@Field(type = FieldType.Text, analyzer = "standard")
+	// 한글 부분 일치 검색을 위해 2~3 글자 n-gram 으로 색인 (매핑 변경 후 재색인 필요)
+	// n-gram 은 1 글자 검색어("책", "컵")에서 토큰이 생기지 않으므로 단어 단위 std 하위 필드도 함께 색인
+	@MultiField(
+		mainField = @Field(type = FieldType.Text, analyzer = "ngram_analyzer"),
+		otherFields = @InnerField(suffix = "std", type = FieldType.Text, analyzer = "standard"))
 	private String name;
 
-	@Field(type = FieldType.Text)
+	@MultiField(
+		mainField = @Field(type = FieldType.Text, analyzer = "ngram_analyzer"),
+		otherFields = @InnerField(suffix = "std", type = FieldType.Text, analyzer = "standard"))
 	private String description;
 
 	@Field(type = FieldType.Double)
@@ -41,6 +60,10 @@ public class ProductDocument {
 	@Field(type = FieldType.Keyword)
 	private String category;
 
+	// 자동완성 (completion suggester) 용, 상품명의 각 단어부터 시작하는 문자열을 입력으로 색인
+	@CompletionField(maxInputLength = 100)
+	private Completion suggest;
+
 	public static ProductDocument from(Product product) {
 		return ProductDocument.builder()
 			.id(String.valueOf(product.getId()))
@@ -49,6 +72,19 @@ public class ProductDocument {
 			.price(product.getPrice())
 			.stock(product.getStock())
 			.category(product.getCategory())
+			.suggest(suggestInputs(product.getName()))
 			.build();
 	}
+
+	private static Completion suggestInputs(String name) {
+		if (name == null || name.isBlank()) {
+			return null;
+		}
+		String[] words = name.trim().split("\\s+");
+		List<String> inputs = new ArrayList<>();
+		for (int i = 0; i < words.length; i++) {
+			inputs.add(String.join(" ", List.of(words).subList(i, words.length)));
+		}
+		return new Completion(inputs.toArray(String[]::new));
+	}
 }
@@ -0,0 +1,20 @@
+package com.example.mini_shop.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CartBatchRequest {
+	private String userId;
+	private List<Line> items; // quantity 가 0 이하면 삭제
+
+	@Getter
+	@Setter
+	public static class Line {
+		private Long productId;
+		private Integer quantity;
+	}
+}
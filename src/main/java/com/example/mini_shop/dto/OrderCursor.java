@@ -0,0 +1,37 @@
+package com.example.mini_shop.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 주문 목록 keyset 커서 (created_at, id)
+ * 클라이언트에는 Base64 URL 문자열로 전달
+ */
+@Getter
+@AllArgsConstructor
+public class OrderCursor {
+	private LocalDateTime createdAt;
+	private Long id;
+
+	public String encode() {
+		String raw = createdAt + "|" + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static OrderCursor decode(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = raw.indexOf('|');
+			return new OrderCursor(
+				LocalDateTime.parse(raw.substring(0, separator)),
+				Long.parseLong(raw.substring(separator + 1))
+			);
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException("Invalid cursor: " + cursor);
+		}
+	}
+}
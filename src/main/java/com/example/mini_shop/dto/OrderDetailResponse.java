@@ -0,0 +1,56 @@
+package com.example.mini_shop.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.example.mini_shop.entity.Order;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 주문 상세 조회용 (주문 요약 + 주문 상품 목록)
+ */
+@Getter
+@AllArgsConstructor
+public class OrderDetailResponse {
+	private Long id;
+	private String customerName;
+	private String customerEmail;
+	private BigDecimal totalAmount;
+	private Order.OrderStatus status;
+
+	@JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+	private LocalDateTime createdAt;
+
+	private List<OrderItemResponse> orderItems;
+
+	public static OrderDetailResponse of(OrderSummaryResponse summary, List<OrderItemResponse> items) {
+		return new OrderDetailResponse(
+			summary.getId(),
+			summary.getCustomerName(),
+			summary.getCustomerEmail(),
+			summary.getTotalAmount(),
+			summary.getStatus(),
+			summary.getCreatedAt(),
+			items
+		);
+	}
+
+	/**
+	 * 이미 로딩된 엔티티에서 변환 (주문 생성 직후 등)
+	 */
+	public static OrderDetailResponse from(Order order) {
+		return new OrderDetailResponse(
+			order.getId(),
+			order.getCustomerName(),
+			order.getCustomerEmail(),
+			order.getTotalAmount(),
+			order.getStatus(),
+			order.getCreatedAt(),
+			order.getOrderItems().stream().map(OrderItemResponse::from).toList()
+		);
+	}
+}
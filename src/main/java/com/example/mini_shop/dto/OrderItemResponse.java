@@ -0,0 +1,40 @@
+package com.example.mini_shop.dto;
+
+import java.math.BigDecimal;
+
+import com.example.mini_shop.entity.OrderItem;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 주문 상품 조회용 (JPQL 생성자 projection)
+ */
+@Getter
+@AllArgsConstructor
+public class OrderItemResponse {
+	@JsonIgnore
+	private Long orderId;
+
+	private Long id;
+	private Long productId;
+	private String productName;
+	private Integer quantity;
+	private BigDecimal price;
+
+	public BigDecimal getSubTotal() {
+		return price.multiply(BigDecimal.valueOf(quantity));
+	}
+
+	public static OrderItemResponse from(OrderItem item) {
+		return new OrderItemResponse(
+			item.getOrder().getId(),
+			item.getId(),
+			item.getProduct().getId(),
+			item.getProduct().getName(),
+			item.getQuantity(),
+			item.getPrice()
+		);
+	}
+}
@@ -0,0 +1,23 @@
+package com.example.mini_shop.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 주문 목록 keyset 페이지 응답 (다음 페이지 요청 시 nextCursor 를 cursor 로 전달)
+ */
+@Getter
+@AllArgsConstructor
+public class OrderPageResponse<T> {
+	private List<T> items;
+	private String nextCursor;
+	private boolean hasNext;
+
+	public static <T> OrderPageResponse<T> of(List<T> items, boolean hasNext, Function<T, OrderCursor> cursorOf) {
+		String nextCursor = hasNext && !items.isEmpty() ? cursorOf.apply(items.get(items.size() - 1)).encode() : null;
+		return new OrderPageResponse<>(items, nextCursor, hasNext);
+	}
+}
@@ -0,0 +1,28 @@
+package com.example.mini_shop.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.example.mini_shop.entity.Order;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 주문 목록 조회용 요약 (JPQL 생성자 projection, 주문 상품은 개수만)
+ */
+@Getter
+@AllArgsConstructor
+public class OrderSummaryResponse {
+	private Long id;
+	private String customerName;
+	private String customerEmail;
+	private BigDecimal totalAmount;
+	private Order.OrderStatus status;
+
+	@JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+	private LocalDateTime createdAt;
+
+	private Integer itemCount;
+}
@@ -0,0 +1,37 @@
+package com.example.mini_shop.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색 결과 facet (카테고리별 상품 수, 가격 구간별 상품 수)
+ * 카테고리 수는 선택한 카테고리와 무관하게 전체 카테고리 기준, 가격 구간은 선택한 카테고리 기준
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFacets {
+	private List<CategoryCount> categories;
+	private List<PriceRange> priceRanges;
+
+	@Getter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class CategoryCount {
+		private String category;
+		private long count;
+	}
+
+	@Getter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class PriceRange {
+		private BigDecimal from;
+		private BigDecimal to;
+		private long count;
+	}
+}
@@ -0,0 +1,24 @@
+package com.example.mini_shop.dto;
+
+import java.util.List;
+
+import com.example.mini_shop.entity.Product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 목록 keyset 페이지 응답 (다음 페이지 요청 시 nextCursor 를 cursor 로 전달)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductPageResponse {
+	private List<Product> items;
+	private Long nextCursor;
+	private boolean hasNext;
+
+	public static ProductPageResponse of(List<Product> items, boolean hasNext) {
+		Long nextCursor = hasNext && !items.isEmpty() ? items.get(items.size() - 1).getId() : null;
+		return new ProductPageResponse(items, nextCursor, hasNext);
+	}
+}
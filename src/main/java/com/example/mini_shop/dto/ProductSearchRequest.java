@@ -0,0 +1,20 @@
+package com.example.mini_shop.dto;
+
+import java.math.BigDecimal;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 상품 검색 조건 (keyword 외 조건은 점수에 영향 없는 filter)
+ */
+@Getter
+@Setter
+public class ProductSearchRequest {
+	private String keyword;
+	private String category;
+	private BigDecimal minPrice;
+	private BigDecimal maxPrice;
+	private String cursor;
+	private int size = 20;
+}
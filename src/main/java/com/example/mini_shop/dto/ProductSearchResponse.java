@@ -0,0 +1,25 @@
+package com.example.mini_shop.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 검색 결과 (카드 표시용 필드만, 다음 페이지 요청 시 nextCursor 를 cursor 로 전달)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchResponse {
+	private List<ProductSummaryResponse> items;
+	private String nextCursor;
+	private boolean hasNext;
+
+	// facet 요청 시에만 포함
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private ProductFacets facets;
+}
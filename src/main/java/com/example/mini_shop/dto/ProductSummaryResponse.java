@@ -0,0 +1,42 @@
+package com.example.mini_shop.dto;
+
+import java.math.BigDecimal;
+
+import com.example.mini_shop.document.ProductDocument;
+import com.example.mini_shop.entity.Product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 카드 표시용 요약 (설명, 생성/수정 시각 제외)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSummaryResponse {
+	private Long id;
+	private String name;
+	private BigDecimal price;
+	private Integer stock;
+	private String category;
+
+	public static ProductSummaryResponse from(Product product) {
+		return new ProductSummaryResponse(
+			product.getId(),
+			product.getName(),
+			product.getPrice(),
+			product.getStock(),
+			product.getCategory());
+	}
+
+	public static ProductSummaryResponse from(ProductDocument document) {
+		return new ProductSummaryResponse(
+			Long.valueOf(document.getId()),
+			document.getName(),
+			document.getPrice(),
+			document.getStock(),
+			document.getCategory());
+	}
+}
@@ -0,0 +1,33 @@
+package com.example.mini_shop.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 검색 인덱스 재색인 진행 상태
+ */
+@Getter
+@AllArgsConstructor
+public class ReindexStatusResponse {
+
+	public enum State {
+		IDLE, RUNNING, COMPLETED, FAILED
+	}
+
+	private State state;
+	private String targetIndex;
+	private long total;
+	private long indexed;
+
+	@JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+	private LocalDateTime startedAt;
+
+	@JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+	private LocalDateTime finishedAt;
+
+	private String message;
+}
@@ -0,0 +1,45 @@
+package com.example.mini_shop.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색 결과 search_after 커서 (점수, 상품 id)
+ * 클라이언트에는 Base64 URL 문자열로 전달
+ */
+@Getter
+@AllArgsConstructor
+public class SearchCursor {
+	private double score;
+	private String id;
+
+	public List<Object> toSearchAfter() {
+		return List.of(score, id);
+	}
+
+	public String encode() {
+		String raw = score + "|" + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static SearchCursor from(List<Object> sortValues) {
+		return new SearchCursor(((Number) sortValues.get(0)).doubleValue(), String.valueOf(sortValues.get(1)));
+	}
+
+	public static SearchCursor decode(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = raw.indexOf('|');
+			return new SearchCursor(
+				Double.parseDouble(raw.substring(0, separator)),
+				raw.substring(separator + 1)
+			);
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException("Invalid cursor: " + cursor);
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package com.example.mini_shop.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 발행 대기 이벤트 (transactional outbox)
+ * 비즈니스 데이터와 같은 트랜잭션에서 저장되고, 커밋된 행만 OutboxRelay 가 RabbitMQ 로 발행 후 삭제
+ */
+@Entity
+@Table(name = "outbox_events", indexes = @Index(name = "idx_outbox_events_created_at", columnList = "created_at, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+	@SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+	private Long id;
+
+	@Column(name = "routing_key", nullable = false)
+	private String routingKey;
+
+	// 컨슈머의 Jackson2JsonMessageConverter 가 역직렬화할 이벤트 타입 (__TypeId__ 헤더)
+	@Column(name = "type_id", nullable = false)
+	private String typeId;
+
+	@Column(nullable = false, columnDefinition = "text")
+	private String payload;
+
+	// 같은 key 의 이벤트는 debounce 시간 동안 모았다가 하나로 합쳐 발행 (null 이면 바로 발행)
+	@Column(name = "coalesce_key")
+	private String coalesceKey;
+
+	// 이벤트 순서 기준 (id 는 sequence 를 50 개씩 미리 할당하므로 노드/트랜잭션 간 저장 순서와 다를 수 있음)
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	@PrePersist
+	protected void onCreate() {
+		createdAt = LocalDateTime.now();
+	}
+}
@@ -0,0 +1,24 @@
+package com.example.mini_shop.event;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 단위로 묶인 재고 업데이트 이벤트 (상품별 StockUpdatedEvent 를 한 번에 발행)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockBatchUpdatedEvent implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private List<StockUpdatedEvent> items;
+	private LocalDateTime updatedAt;
+}
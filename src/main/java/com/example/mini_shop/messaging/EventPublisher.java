@@ -1,96 +1,109 @@
 package com.example.mini_shop.messaging;
 
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.mini_shop.config.RabbitMQConfig;
+import com.example.mini_shop.entity.OutboxEvent;
 import com.example.mini_shop.event.ElasticsearchIndexEvent;
 import com.example.mini_shop.event.NotificationEvent;
 import com.example.mini_shop.event.OrderCreatedEvent;
+import com.example.mini_shop.event.StockBatchUpdatedEvent;
 import com.example.mini_shop.event.StockUpdatedEvent;
+import com.example.mini_shop.repository.OutboxEventRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 이벤트 발행 (transactional outbox)
+ * 브로커로 바로 보내지 않고 호출한 트랜잭션 안에서 outbox_events 에 저장
+ * 커밋된 이벤트만 OutboxRelay 가 묶어서 발행 (롤백된 트랜잭션의 이벤트는 발행되지 않음)
+ * 상품별 인덱싱/재고 이벤트는 coalesce key 를 붙여 짧은 시간 내 반복 변경을 하나로 합침
+ * 메트릭 : events.publish{event} (outbox 저장 시간), events.publish.failures{event}
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@Transactional
 public class EventPublisher {
 
-	private final RabbitTemplate rabbitTemplate;
+	private final OutboxEventRepository outboxEventRepository;
+	private final MessageConverter messageConverter;
+	private final MeterRegistry meterRegistry;
 
 	/**
 	 * 주문 생성 이벤트 발행
 	 */
 	public void publishOrderCreated(OrderCreatedEvent event) {
-		log.info("Puvlishing OrderCreatedEvent: orderId={}", event.getOrderId());
-		try {
-			rabbitTemplate.convertAndSend(
-				RabbitMQConfig.SHOP_EXCHANGE,
-				RabbitMQConfig.ORDER_ROUTING_KEY,
-				event
-			);
-			log.info("OrderCreatedEvent published successfully");
-		} catch (Exception e) {
-			log.error("Failed to publish OrderCreatedEvent: {}", e.getMessage(), e);
-			throw new RuntimeException("Failed to publish order event", e);
-		}
+		log.debug("Publishing OrderCreatedEvent: orderId={}", event.getOrderId());
+		enqueue(RabbitMQConfig.ORDER_ROUTING_KEY, event, null);
 	}
 
 	/**
 	 * 재고 업데이트 이벤트 발행
 	 */
 	public void publishStockUpdated(StockUpdatedEvent event) {
-		log.info("Publishing StockUpdatedEvent: productId={}, stock={}",
+		log.debug("Publishing StockUpdatedEvent: productId={}, stock={}",
 			event.getProductId(), event.getCurrentStock());
-		try {
-			rabbitTemplate.convertAndSend(
-				RabbitMQConfig.SHOP_EXCHANGE,
-				RabbitMQConfig.STOCK_ROUTING_KEY,
-				event
-			);
-			log.debug("StockUpdatedEvent published successfully");
-		} catch (Exception e) {
-			log.error("Failed to publish StockUpdatedEvent: {}", e.getMessage(), e);
-			// 재고 이벤트 실패는 치명적이지 않으므로 예외를 던지지 않음
-		}
+		enqueue(RabbitMQConfig.STOCK_ROUTING_KEY, event, OutboxCoalescer.STOCK_KEY_PREFIX + event.getProductId());
+	}
+
+	/**
+	 * 재고 일괄 업데이트 이벤트 발행 (주문 단위)
+	 */
+	public void publishStockBatchUpdated(StockBatchUpdatedEvent event) {
+		log.debug("Publishing StockBatchUpdatedEvent: items={}", event.getItems().size());
+		enqueue(RabbitMQConfig.STOCK_ROUTING_KEY, event, null);
 	}
 
 	/**
 	 * 알림 이벤트 발행
 	 */
 	public void publishNotification(NotificationEvent event) {
-		log.info("Publishing NotificationEvent: type={}, recipient={}",
+		log.debug("Publishing NotificationEvent: type={}, recipient={}",
 			event.getType(), event.getRecipient());
-		try {
-			rabbitTemplate.convertAndSend(
-				RabbitMQConfig.SHOP_EXCHANGE,
-				RabbitMQConfig.NOTIFICATION_ROUTING_KEY,
-				event
-			);
-			log.debug("NotificationEvent published successfully");
-		} catch (Exception e) {
-			log.error("Failed to publish NotificationEvent: {}", e.getMessage(), e);
-			// 알림 실패는 치명적이지 않으므로 예외를 던지지 않음
-		}
+		enqueue(RabbitMQConfig.NOTIFICATION_ROUTING_KEY, event, null);
 	}
 
 	/**
 	 * Elasticsearch 인덱싱 이벤트 발행
 	 */
 	public void publishElasticsearchIndex(ElasticsearchIndexEvent event) {
-		log.info("Publishing ElasticsearchIndexEvent: productId={}, operation={}",
+		log.debug("Publishing ElasticsearchIndexEvent: productId={}, operation={}",
 			event.getProductId(), event.getOperation());
+		enqueue(RabbitMQConfig.ELASTICSEARCH_ROUTING_KEY, event,
+			OutboxCoalescer.INDEX_KEY_PREFIX + event.getProductId());
+	}
+
+	// RabbitTemplate 과 같은 converter 로 직렬화하여 컨슈머 입장에서 기존 메시지와 동일하게 유지
+	private void enqueue(String routingKey, Object event, String coalesceKey) {
+		String eventType = event.getClass().getSimpleName();
+		Timer.Sample sample = Timer.start(meterRegistry);
 		try {
-			rabbitTemplate.convertAndSend(
-				RabbitMQConfig.SHOP_EXCHANGE,
-				RabbitMQConfig.ELASTICSEARCH_ROUTING_KEY,
-				event
+			Message message = messageConverter.toMessage(event, new MessageProperties());
+			OutboxEvent outboxEvent = outboxEventRepository.save(
+				OutboxEvent.builder()
+					.routingKey(routingKey)
+					.typeId(message.getMessageProperties().getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME))
+					.payload(new String(message.getBody(), StandardCharsets.UTF_8))
+					.coalesceKey(coalesceKey)
+					.build()
 			);
-			log.debug("ElasticsearchIndexEvent published successfully");
-		} catch (Exception e) {
-			log.error("Failed to publish ElasticsearchIndexEvent: {}", e.getMessage(), e);
-			// 검색 인덱싱 실패는 치명적이지 않으므로 예외를 던지지 않음
+			log.debug("{} stored in outbox: outboxId={}", eventType, outboxEvent.getId());
+		} catch (RuntimeException e) {
+			meterRegistry.counter("events.publish.failures", "event", eventType).increment();
+			throw e;
+		} finally {
+			sample.stop(meterRegistry.timer("events.publish", "event", eventType));
 		}
 	}
 }
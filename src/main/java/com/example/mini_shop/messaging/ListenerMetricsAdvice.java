@@ -0,0 +1,90 @@
+package com.example.mini_shop.messaging;
+
+import java.util.List;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.listener.FatalExceptionStrategy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 리스너 컨테이너 advice : @RabbitListener 처리 메트릭 (단건/batch 리스너 공통)
+ * rabbitmq.listener.process{queue, result}     : 처리 시간 (batch 리스너는 batch 1회 기준)
+ * rabbitmq.listener.messages{queue}            : 처리한 메시지 수
+ * rabbitmq.listener.redelivered{queue}         : 재전달된 메시지 수 (이전 처리 실패 후 requeue)
+ * rabbitmq.listener.rejected{queue, outcome}   : 실패한 메시지 수 (requeued / dead-lettered)
+ */
+public class ListenerMetricsAdvice implements MethodInterceptor {
+
+	private final MeterRegistry meterRegistry;
+	private final FatalExceptionStrategy fatalExceptionStrategy;
+
+	/**
+	 * @param fatalExceptionStrategy 컨테이너 ErrorHandler 와 같은 전략 (변환 실패 등 requeue 없이 거절되는 예외 판단)
+	 */
+	public ListenerMetricsAdvice(MeterRegistry meterRegistry, FatalExceptionStrategy fatalExceptionStrategy) {
+		this.meterRegistry = meterRegistry;
+		this.fatalExceptionStrategy = fatalExceptionStrategy;
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		// ContainerDelegate.invokeListener(Channel, Object data) : data 는 Message 또는 List<Message>
+		List<Message> messages = messages(invocation.getArguments()[1]);
+		String queue = messages.isEmpty() ? "unknown" : messages.get(0).getMessageProperties().getConsumerQueue();
+
+		long redelivered = messages.stream()
+			.filter(message -> Boolean.TRUE.equals(message.getMessageProperties().getRedelivered()))
+			.count();
+		if (redelivered > 0) {
+			meterRegistry.counter("rabbitmq.listener.redelivered", "queue", queue).increment(redelivered);
+		}
+
+		Timer.Sample sample = Timer.start(meterRegistry);
+		try {
+			Object result = invocation.proceed();
+			sample.stop(timer(queue, "success"));
+			meterRegistry.counter("rabbitmq.listener.messages", "queue", queue).increment(messages.size());
+			return result;
+		} catch (Throwable e) {
+			sample.stop(timer(queue, "failure"));
+			// 모든 큐에 DLX 가 설정되어 있으므로 requeue 하지 않는 실패는 DLQ 로 이동
+			meterRegistry.counter("rabbitmq.listener.rejected", "queue", queue,
+				"outcome", rejectedWithoutRequeue(e) ? "dead-lettered" : "requeued").increment(messages.size());
+			throw e;
+		}
+	}
+
+	private Timer timer(String queue, String result) {
+		return Timer.builder("rabbitmq.listener.process")
+			.tag("queue", queue)
+			.tag("result", result)
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Message> messages(Object data) {
+		if (data instanceof Message message) {
+			return List.of(message);
+		}
+		return data instanceof List<?> list ? (List<Message>) list : List.of();
+	}
+
+	// advice 밖의 ConditionalRejectingErrorHandler 가 fatal 예외를 requeue 없이 거절하므로 같은 기준으로 분류
+	private boolean rejectedWithoutRequeue(Throwable e) {
+		if (fatalExceptionStrategy.isFatal(e)) {
+			return true;
+		}
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof AmqpRejectAndDontRequeueException) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
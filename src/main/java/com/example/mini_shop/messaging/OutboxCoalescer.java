@@ -0,0 +1,109 @@
+package com.example.mini_shop.messaging;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import com.example.mini_shop.entity.OutboxEvent;
+import com.example.mini_shop.event.StockUpdatedEvent;
+
+/**
+ * 같은 coalesce key (상품별 인덱싱/재고 이벤트) 의 outbox 이벤트를 하나로 합침
+ * 인덱싱 : 마지막 이벤트만 발행 (마지막 operation 이 최종 상태)
+ * 재고   : 첫 이벤트의 이전 재고 -> 마지막 이벤트의 현재 재고 로 순변동 1건 발행
+ * 잠근 outbox 엔티티는 수정하지 않음 (합친 payload 는 Coalesced 로 반환, dirty checking UPDATE 방지)
+ */
+class OutboxCoalescer {
+
+	static final String INDEX_KEY_PREFIX = "index:";
+	static final String STOCK_KEY_PREFIX = "stock:";
+
+	// 저장 시각 순 (id 는 sequence 미리 할당으로 노드/트랜잭션 간 순서가 뒤바뀔 수 있어 동시각 정렬에만 사용)
+	static final Comparator<OutboxEvent> EVENT_ORDER = Comparator
+		.comparing(OutboxEvent::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+		.thenComparing(OutboxEvent::getId);
+
+	private final MessageConverter messageConverter;
+
+	OutboxCoalescer(MessageConverter messageConverter) {
+		this.messageConverter = messageConverter;
+	}
+
+	/**
+	 * @param events outbox 이벤트
+	 * @return 발행할 이벤트 (저장 시각 순) 와 발행 성공 시 함께 삭제할 합쳐진 이벤트 id
+	 */
+	Coalesced coalesce(List<OutboxEvent> events) {
+		List<OutboxEvent> ordered = new ArrayList<>(events);
+		ordered.sort(EVENT_ORDER);
+
+		Map<String, List<OutboxEvent>> groups = new LinkedHashMap<>();
+		List<OutboxEvent> toSend = new ArrayList<>(events.size());
+		Map<Long, List<Long>> superseded = new LinkedHashMap<>();
+		Map<Long, String> mergedPayloads = new HashMap<>();
+
+		for (OutboxEvent event : ordered) {
+			if (event.getCoalesceKey() == null) {
+				toSend.add(event);
+			} else {
+				groups.computeIfAbsent(event.getCoalesceKey(), key -> new ArrayList<>()).add(event);
+			}
+		}
+
+		for (Map.Entry<String, List<OutboxEvent>> group : groups.entrySet()) {
+			List<OutboxEvent> grouped = group.getValue();
+			OutboxEvent last = grouped.get(grouped.size() - 1);
+			if (grouped.size() > 1) {
+				if (group.getKey().startsWith(STOCK_KEY_PREFIX)) {
+					mergedPayloads.put(last.getId(), mergeStock(grouped.get(0), last));
+				}
+				superseded.put(last.getId(), grouped.subList(0, grouped.size() - 1).stream()
+					.map(OutboxEvent::getId)
+					.toList());
+			}
+			toSend.add(last);
+		}
+
+		toSend.sort(EVENT_ORDER);
+		return new Coalesced(toSend, superseded, mergedPayloads);
+	}
+
+	// 마지막 이벤트를 순변동 이벤트로 바꾼 payload
+	private String mergeStock(OutboxEvent first, OutboxEvent last) {
+		StockUpdatedEvent firstEvent = read(first);
+		StockUpdatedEvent lastEvent = read(last);
+
+		lastEvent.setPreviousStock(firstEvent.getPreviousStock());
+		lastEvent.setOperation(lastEvent.getCurrentStock() > firstEvent.getPreviousStock() ? "INCREASE" : "DECREASE");
+
+		Message merged = messageConverter.toMessage(lastEvent, new MessageProperties());
+		return new String(merged.getBody(), StandardCharsets.UTF_8);
+	}
+
+	private StockUpdatedEvent read(OutboxEvent event) {
+		MessageProperties properties = new MessageProperties();
+		properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+		properties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, event.getTypeId());
+		return (StockUpdatedEvent) messageConverter.fromMessage(
+			new Message(event.getPayload().getBytes(StandardCharsets.UTF_8), properties));
+	}
+
+	record Coalesced(List<OutboxEvent> toSend, Map<Long, List<Long>> superseded, Map<Long, String> mergedPayloads) {
+
+		/**
+		 * 발행할 payload (합쳐진 이벤트는 순변동 payload, 나머지는 저장된 payload)
+		 */
+		String payload(OutboxEvent event) {
+			return mergedPayloads.getOrDefault(event.getId(), event.getPayload());
+		}
+	}
+}
@@ -0,0 +1,248 @@
+package com.example.mini_shop.messaging;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.MessagePropertiesBuilder;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.mini_shop.config.RabbitMQConfig;
+import com.example.mini_shop.entity.OutboxEvent;
+import com.example.mini_shop.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox 이벤트 일괄 발행
+ * batch-size 만큼 잠금 조회 -> 상품별 반복 이벤트 합침 -> 라우팅 키별 채널에서 병렬 연속 발행 -> publisher confirm 을 한 번에 대기 -> ack 된 행만 삭제
+ * nack/timeout 된 이벤트는 남겨두고 다음 주기에 재발행 (at-least-once, messageId = outbox id)
+ * 발행 실패가 이어지면 다음 시도까지 대기 시간을 2배씩 늘림 (linger-millis ~ max-backoff-millis)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shop.outbox.relay-enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final RabbitTemplate rabbitTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final int batchSize;
+	private final long confirmTimeoutMillis;
+	private final long lingerMillis;
+	private final long maxBackoffMillis;
+
+	private final Duration coalesceWindow;
+	private final OutboxCoalescer coalescer;
+	private final ExecutorService publishExecutor;
+
+	private final Counter published;
+	private final Counter failed;
+	private final Counter coalescedCounter;
+	private final Counter failedCycles;
+	private final Timer batchTimer;
+
+	private int consecutiveFailures;
+	private long nextAttemptAt;
+
+	public OutboxRelay(
+		OutboxEventRepository outboxEventRepository,
+		RabbitTemplate rabbitTemplate,
+		MessageConverter messageConverter,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry,
+		@Value("${shop.outbox.batch-size:200}") int batchSize,
+		@Value("${shop.outbox.confirm-timeout-millis:5000}") long confirmTimeoutMillis,
+		@Value("${shop.outbox.publisher-channels:4}") int publisherChannels,
+		@Value("${shop.outbox.coalesce-window-millis:500}") long coalesceWindowMillis,
+		@Value("${shop.outbox.linger-millis:50}") long lingerMillis,
+		@Value("${shop.outbox.max-backoff-millis:30000}") long maxBackoffMillis) {
+		this.outboxEventRepository = outboxEventRepository;
+		this.rabbitTemplate = rabbitTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+		this.confirmTimeoutMillis = confirmTimeoutMillis;
+		this.lingerMillis = lingerMillis;
+		this.maxBackoffMillis = maxBackoffMillis;
+		this.coalesceWindow = Duration.ofMillis(coalesceWindowMillis);
+		this.coalescer = new OutboxCoalescer(messageConverter);
+		this.publishExecutor = Executors.newFixedThreadPool(publisherChannels, runnable -> {
+			Thread thread = new Thread(runnable, "outbox-publisher");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		this.published = meterRegistry.counter("outbox.published");
+		this.failed = meterRegistry.counter("outbox.failed");
+		this.coalescedCounter = meterRegistry.counter("outbox.coalesced");
+		this.failedCycles = meterRegistry.counter("outbox.relay.failures");
+		this.batchTimer = meterRegistry.timer("outbox.relay.batch");
+	}
+
+	/**
+	 * linger 주기마다 실행, 가득 찬 batch 가 전부 ack 된 경우만 대기 없이 이어서 발행
+	 * 일부라도 ack 되지 않으면 행 잠금/커넥션을 반환하고 backoff 후 다음 주기에 재시도
+	 */
+	@Scheduled(fixedDelayString = "${shop.outbox.linger-millis:50}")
+	public void relay() {
+		if (System.currentTimeMillis() < nextAttemptAt) {
+			return;
+		}
+		try {
+			BatchResult result;
+			do {
+				result = transactionTemplate.execute(status -> relayBatch());
+			} while (result != null && result.confirmed() && result.locked() >= batchSize);
+
+			if (result != null && !result.confirmed()) {
+				backOff();
+			} else {
+				consecutiveFailures = 0;
+			}
+		} catch (Exception e) {
+			log.error("Outbox relay failed: {}", e.getMessage(), e);
+			backOff();
+		}
+	}
+
+	private void backOff() {
+		failedCycles.increment();
+		consecutiveFailures = Math.min(consecutiveFailures + 1, 20);
+		long delay = Math.min(lingerMillis << consecutiveFailures, maxBackoffMillis);
+		nextAttemptAt = System.currentTimeMillis() + delay;
+		log.warn("Outbox relay backing off for {}ms after {} failed cycles", delay, consecutiveFailures);
+	}
+
+	private BatchResult relayBatch() {
+		List<OutboxEvent> locked = outboxEventRepository.lockBatch(
+			LocalDateTime.now().minus(coalesceWindow), batchSize);
+		if (locked.isEmpty()) {
+			return new BatchResult(0, 0, 0);
+		}
+
+		Timer.Sample sample = Timer.start();
+
+		// 상품별 반복 변경 이벤트를 하나로 합침
+		OutboxCoalescer.Coalesced coalesced = coalescer.coalesce(locked);
+		List<OutboxEvent> events = coalesced.toSend();
+
+		// 라우팅 키(큐)별로 채널을 나눠 병렬 발행 (같은 큐 안의 발행 순서는 유지)
+		Map<String, List<OutboxEvent>> byRoutingKey = events.stream()
+			.collect(Collectors.groupingBy(OutboxEvent::getRoutingKey, LinkedHashMap::new, Collectors.toList()));
+		List<CompletableFuture<List<CorrelationData>>> sends = byRoutingKey.values().stream()
+			.map(group -> CompletableFuture.supplyAsync(() -> send(group, coalesced), publishExecutor))
+			.toList();
+
+		List<CorrelationData> confirms = new ArrayList<>(events.size());
+		for (CompletableFuture<List<CorrelationData>> send : sends) {
+			confirms.addAll(send.join());
+		}
+
+		List<Long> acked = awaitAcks(confirms);
+		List<Long> deletable = new ArrayList<>(acked);
+		acked.forEach(id -> deletable.addAll(coalesced.superseded().getOrDefault(id, List.of())));
+		if (!deletable.isEmpty()) {
+			outboxEventRepository.deleteByIdIn(deletable);
+		}
+		sample.stop(batchTimer);
+		published.increment(acked.size());
+		failed.increment(events.size() - acked.size());
+		coalescedCounter.increment(deletable.size() - acked.size());
+
+		if (acked.size() < events.size()) {
+			log.warn("Outbox relay: {} of {} events not confirmed, will retry", events.size() - acked.size(),
+				events.size());
+		}
+		log.debug("Outbox relay: published {} events on {} channels", acked.size(), byRoutingKey.size());
+		return new BatchResult(locked.size(), events.size(), acked.size());
+	}
+
+	// 한 채널에서 연속 발행 (메시지마다 confirm 을 기다리지 않음)
+	private List<CorrelationData> send(List<OutboxEvent> events, OutboxCoalescer.Coalesced coalesced) {
+		return rabbitTemplate.invoke(operations -> {
+			List<CorrelationData> correlations = new ArrayList<>(events.size());
+			for (OutboxEvent event : events) {
+				CorrelationData correlation = new CorrelationData(String.valueOf(event.getId()));
+				operations.send(RabbitMQConfig.SHOP_EXCHANGE, event.getRoutingKey(), toMessage(event, coalesced.payload(event)),
+					correlation);
+				correlations.add(correlation);
+			}
+			return correlations;
+		});
+	}
+
+	// 비동기로 도착하는 confirm 을 batch 전체에 대해 한 번의 timeout 으로 대기
+	private List<Long> awaitAcks(List<CorrelationData> confirms) {
+		CompletableFuture<?>[] futures = confirms.stream()
+			.map(CorrelationData::getFuture)
+			.toArray(CompletableFuture[]::new);
+		try {
+			CompletableFuture.allOf(futures).get(confirmTimeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException | TimeoutException e) {
+			log.warn("Outbox relay: confirms not received within {}ms", confirmTimeoutMillis);
+		}
+
+		List<Long> acked = new ArrayList<>(confirms.size());
+		for (CorrelationData correlation : confirms) {
+			CorrelationData.Confirm confirm = correlation.getFuture().getNow(null);
+			if (confirm != null && confirm.isAck()) {
+				acked.add(Long.valueOf(correlation.getId()));
+			} else if (confirm != null) {
+				log.warn("Outbox event nacked: outboxId={}, reason={}", correlation.getId(), confirm.getReason());
+			}
+		}
+		return acked;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		publishExecutor.shutdown();
+	}
+
+	private record BatchResult(int locked, int sent, int acked) {
+
+		boolean confirmed() {
+			return acked == sent;
+		}
+	}
+
+	private Message toMessage(OutboxEvent event, String payload) {
+		MessageProperties properties = MessagePropertiesBuilder.newInstance()
+			.setContentType(MessageProperties.CONTENT_TYPE_JSON)
+			.setContentEncoding(StandardCharsets.UTF_8.name())
+			.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, event.getTypeId())
+			.setMessageId(String.valueOf(event.getId()))
+			.setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+			.build();
+		return new Message(payload.getBytes(StandardCharsets.UTF_8), properties);
+	}
+}
@@ -1,14 +1,31 @@
 package com.example.mini_shop.messaging.listener;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
 import org.springframework.stereotype.Component;
 
+import com.example.mini_shop.cache.SearchResultCache;
 import com.example.mini_shop.config.RabbitMQConfig;
 import com.example.mini_shop.document.ProductDocument;
+import com.example.mini_shop.entity.Product;
 import com.example.mini_shop.event.ElasticsearchIndexEvent;
 import com.example.mini_shop.repository.ProductRepository;
-import com.example.mini_shop.repository.ProductSearchRepository;
 
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Refresh;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -18,45 +35,98 @@ import lombok.extern.slf4j.Slf4j;
 class ElasticsearchEventListener {
 
 	private final ProductRepository productRepository;
-	private final ProductSearchRepository productSearchRepository;
+	private final ElasticsearchOperations elasticsearchOperations;
+	private final ElasticsearchClient elasticsearchClient;
+	private final SearchResultCache searchResultCache;
 
-	@RabbitListener(queues = RabbitMQConfig.ELASTICSEARCH_QUEUE)
-	public void handleElasticsearchIndex(ElasticsearchIndexEvent event) {
-		log.info("Received ElasticsearchIndexEvent: productId={}, operation={}",
-			event.getProductId(), event.getOperation());
+	/**
+	 * 인덱싱 이벤트 일괄 처리 (batch 단위 ack)
+	 * 상품별 마지막 operation 만 반영, DB 조회 1회 + 색인/삭제를 합친 ES bulk 요청 1회 (refresh 도 batch 당 1회)
+	 */
+	@RabbitListener(queues = RabbitMQConfig.ELASTICSEARCH_QUEUE,
+		containerFactory = "batchRabbitListenerContainerFactory")
+	public void handleElasticsearchIndex(List<ElasticsearchIndexEvent> events) {
+		log.debug("Received {} ElasticsearchIndexEvents", events.size());
+		long startedAt = System.nanoTime();
 
-		try {
+		// 상품별 마지막 operation (이벤트 순서대로 덮어씀)
+		Map<Long, String> operations = new LinkedHashMap<>();
+		for (ElasticsearchIndexEvent event : events) {
 			switch (event.getOperation()) {
-				case "INDEX":
-				case "UPDATE":
-					indexProduct(event.getProductId());
-					break;
-				case "DELETE":
-					deleteProduct(event.getProductId());
-					break;
-				default:
-					log.warn("Unknown operation: {}", event.getOperation());
+				case "INDEX", "UPDATE", "DELETE" -> operations.put(event.getProductId(), event.getOperation());
+				default -> log.warn("Unknown operation: {}", event.getOperation());
 			}
+		}
+
+		Set<Long> indexIds = new HashSet<>();
+		Set<Long> deleteIds = new HashSet<>();
+		operations.forEach((productId, operation) ->
+			("DELETE".equals(operation) ? deleteIds : indexIds).add(productId));
 
-			log.info("Elasticsearch operation completed: productId={}, operation={}",
-				event.getProductId(), event.getOperation());
+		try {
+			List<ProductDocument> documents = loadDocuments(indexIds, deleteIds);
+			bulk(documents, deleteIds);
+			int indexed = documents.size();
+			// 검색 결과 캐시, 자동완성 인덱스 무효화 (모든 노드)
+			searchResultCache.bumpGeneration();
+
+			double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+			log.info("Elasticsearch batch completed: events={}, indexed={}, deleted={}, {} docs/sec",
+				events.size(), indexed, deleteIds.size(), Math.round((indexed + deleteIds.size()) / seconds));
 
 		} catch (Exception e) {
-			log.error("Failed to process Elasticsearch event: {}", e.getMessage(), e);
+			log.error("Failed to process Elasticsearch batch: {}", e.getMessage(), e);
 			throw new RuntimeException("Elasticsearch indexing failed", e);
 		}
 	}
 
-	private void indexProduct(Long productId) {
-		productRepository.findById(productId).ifPresent(product -> {
-			ProductDocument document = ProductDocument.from(product);
-			productSearchRepository.save(document);
-			log.info("Product indexed in Elasticsearch: productId={}", productId);
-		});
+	// DB 에서 이미 삭제된 상품은 인덱스에서도 삭제 대상으로 넘김
+	private List<ProductDocument> loadDocuments(Set<Long> productIds, Set<Long> deleteIds) {
+		if (productIds.isEmpty()) {
+			return List.of();
+		}
+
+		List<Product> products = productRepository.findAllById(productIds);
+		Set<Long> missing = new HashSet<>(productIds);
+		products.forEach(product -> missing.remove(product.getId()));
+		deleteIds.addAll(missing);
+
+		return products.stream()
+			.map(ProductDocument::from)
+			.toList();
 	}
 
-	private void deleteProduct(Long productId) {
-		productSearchRepository.deleteById(String.valueOf(productId));
-		log.info("Product deleted from Elasticsearch: productId={}", productId);
+	/**
+	 * 색인과 삭제를 하나의 bulk 요청으로 전송
+	 * (repository 의 saveAll + deleteAllById 는 요청 2회 + delete-by-query + 각각 refresh)
+	 * 문서 변환은 Spring Data 매핑(@MultiField, @CompletionField 등)을 그대로 사용
+	 */
+	private void bulk(List<ProductDocument> documents, Set<Long> deleteIds) throws IOException {
+		if (documents.isEmpty() && deleteIds.isEmpty()) {
+			return;
+		}
+
+		ElasticsearchConverter converter = elasticsearchOperations.getElasticsearchConverter();
+		List<BulkOperation> operations = new ArrayList<>(documents.size() + deleteIds.size());
+		for (ProductDocument document : documents) {
+			Document source = converter.mapObject(document);
+			operations.add(BulkOperation.of(op -> op.index(index -> index.id(document.getId()).document(source))));
+		}
+		for (Long productId : deleteIds) {
+			operations.add(BulkOperation.of(op -> op.delete(delete -> delete.id(String.valueOf(productId)))));
+		}
+
+		BulkResponse response = elasticsearchClient.bulk(request -> request
+			.index(ProductDocument.INDEX_ALIAS)
+			.refresh(Refresh.True)
+			.operations(operations));
+		if (response.errors()) {
+			List<BulkResponseItem> failed = response.items().stream()
+				.filter(item -> item.error() != null)
+				.toList();
+			throw new RuntimeException("Elasticsearch bulk failed: " + failed.size() + " items, first error="
+				+ failed.get(0).error().reason());
+		}
+		log.debug("Elasticsearch bulk completed: indexed={}, deleted={}", documents.size(), deleteIds.size());
 	}
 }
@@ -16,7 +16,7 @@ class NotificationEventListener {
 
 	@RabbitListener(queues = RabbitMQConfig.NOTIFICATION_QUEUE)
 	public void handleNotification(NotificationEvent event) {
-		log.info("Received NotificationEvent: type={}, recipient={}, title={}",
+		log.debug("Received NotificationEvent: type={}, recipient={}, title={}",
 			event.getType(), event.getRecipient(), event.getTitle());
 
 		try {
@@ -45,18 +45,18 @@ class NotificationEventListener {
 	}
 
 	private void sendEmail(NotificationEvent event) {
-		log.info("Sending email to: {}, title: {}", event.getRecipient(), event.getTitle());
+		log.debug("Sending email to: {}, title: {}", event.getRecipient(), event.getTitle());
 		// 실제 이메일 발송 로직 (JavaMailSender 등)
 		// 현재는 로그만 출력
 	}
 
 	private void sendSMS(NotificationEvent event) {
-		log.info("Sending SMS to: {}, message: {}", event.getRecipient(), event.getMessage());
+		log.debug("Sending SMS to: {}, message: {}", event.getRecipient(), event.getMessage());
 		// 실제 SMS 발송 로직
 	}
 
 	private void sendPush(NotificationEvent event) {
-		log.info("Sending Push to: {}, title: {}", event.getRecipient(), event.getTitle());
+		log.debug("Sending Push to: {}, title: {}", event.getRecipient(), event.getTitle());
 		// 실제 푸시 알림 발송 로직
 	}
 }
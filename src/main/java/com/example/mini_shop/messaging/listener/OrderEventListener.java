@@ -16,12 +16,12 @@ public class OrderEventListener {
 
 	@RabbitListener(queues = RabbitMQConfig.ORDER_QUEUE)
 	public void handleOrderCreated(OrderCreatedEvent event) {
-		log.info("Received OrderCreatedEvent: orderId={}, customerEmail={}",
+		log.debug("Received OrderCreatedEvent: orderId={}, customerEmail={}",
 			event.getOrderId(), event.getCustomerEmail());
 
 		try {
 			// 주문 처리 로직 (예: 주문 상태 업데이트, 외부 시스템 연동 등)
-			log.info("Processing order: orderId={}, totalAmount={}",
+			log.debug("Processing order: orderId={}, totalAmount={}",
 				event.getOrderId(), event.getTotalAmount());
 
 			// 주문 처리 완료
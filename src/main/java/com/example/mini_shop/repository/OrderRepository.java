@@ -1,14 +1,65 @@
 package com.example.mini_shop.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.mini_shop.dto.OrderItemResponse;
+import com.example.mini_shop.dto.OrderSummaryResponse;
 import com.example.mini_shop.entity.Order;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 	List<Order> findByCustomerEmailOrderByCreatedAtDesc(String mail);
 	List<Order> findByStatus(Order.OrderStatus status);
+
+	String SUMMARY_SELECT = "SELECT new com.example.mini_shop.dto.OrderSummaryResponse("
+		+ "o.id, o.customerName, o.customerEmail, o.totalAmount, o.status, o.createdAt, SIZE(o.orderItems)) "
+		+ "FROM Order o ";
+	String KEYSET_BEFORE = "(o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) ";
+	String KEYSET_ORDER = "ORDER BY o.createdAt DESC, o.id DESC";
+
+	@Query(SUMMARY_SELECT + "WHERE o.id = :id")
+	Optional<OrderSummaryResponse> findSummaryById(@Param("id") Long id);
+
+	// keyset 페이지 조회 (created_at DESC, id DESC)
+	@Query(SUMMARY_SELECT + KEYSET_ORDER)
+	List<OrderSummaryResponse> findSummaryPage(Limit limit);
+
+	@Query(SUMMARY_SELECT + "WHERE " + KEYSET_BEFORE + KEYSET_ORDER)
+	List<OrderSummaryResponse> findSummaryPageBefore(@Param("createdAt") LocalDateTime createdAt,
+		@Param("id") Long id, Limit limit);
+
+	@Query(SUMMARY_SELECT + "WHERE o.customerEmail = :email " + KEYSET_ORDER)
+	List<OrderSummaryResponse> findSummaryPageByEmail(@Param("email") String email, Limit limit);
+
+	@Query(SUMMARY_SELECT + "WHERE o.customerEmail = :email AND " + KEYSET_BEFORE + KEYSET_ORDER)
+	List<OrderSummaryResponse> findSummaryPageByEmailBefore(@Param("email") String email,
+		@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+	// 여러 주문의 주문 상품을 상품명과 함께 한 번에 조회
+	@Query("SELECT new com.example.mini_shop.dto.OrderItemResponse("
+		+ "i.order.id, i.id, p.id, p.name, i.quantity, i.price) "
+		+ "FROM OrderItem i JOIN i.product p "
+		+ "WHERE i.order.id IN :orderIds ORDER BY i.id")
+	List<OrderItemResponse> findItemsByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+	/**
+	 * 전체 주문 스트리밍 조회 (JDBC fetch size 단위로 커서 조회, 호출 측 트랜잭션 필요)
+	 */
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+	@Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems i LEFT JOIN FETCH i.product "
+		+ "ORDER BY o.createdAt, o.id")
+	Stream<Order> streamAllWithItems();
 }
@@ -0,0 +1,32 @@
+package com.example.mini_shop.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.mini_shop.entity.OutboxEvent;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	/**
+	 * 발행 대기 이벤트를 오래된 순으로 잠금 조회
+	 * 다른 노드의 relay 가 잠근 행은 건너뛰어 같은 이벤트를 중복 발행하지 않음
+	 * coalesce key 가 있는 이벤트는 coalesceBefore 이전에 저장된 것만 조회 (debounce)
+	 */
+	@Query(value = "SELECT * FROM outbox_events "
+		+ "WHERE coalesce_key IS NULL OR created_at <= :coalesceBefore "
+		+ "ORDER BY created_at, id LIMIT :limit FOR UPDATE SKIP LOCKED",
+		nativeQuery = true)
+	List<OutboxEvent> lockBatch(@Param("coalesceBefore") LocalDateTime coalesceBefore, @Param("limit") int limit);
+
+	@Modifying
+	@Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids")
+	int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
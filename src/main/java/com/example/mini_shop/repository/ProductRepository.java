@@ -1,14 +1,70 @@
 package com.example.mini_shop.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.mini_shop.entity.Product;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
 	List<Product> findByCategory(String category);
 	List<Product> findByNameContainingIgnoreCase(String name);
+
+	// keyset 페이지 조회 (id > cursor)
+	List<Product> findByIdGreaterThanOrderByIdAsc(Long cursor, Limit limit);
+	List<Product> findByCategoryAndIdGreaterThanOrderByIdAsc(String category, Long cursor, Limit limit);
+
+	// 재색인용 전체 상품 스트리밍 조회 (DB 커서로 fetch size 만큼씩 읽음)
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+	@Query("SELECT p FROM Product p ORDER BY p.id")
+	Stream<Product> streamAll();
+
+	List<Product> findByUpdatedAtGreaterThanEqual(LocalDateTime updatedAt);
+
+	// 재색인 중 삭제된 상품 확인용 (주어진 id 중 남아 있는 id)
+	@Query("SELECT p.id FROM Product p WHERE p.id IN :ids")
+	List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+	// 자동완성 인덱스용 상품명 조회
+	@Query("SELECT p.name FROM Product p ORDER BY p.id")
+	List<String> findNames(Limit limit);
+
+	@Query("SELECT p.stock FROM Product p WHERE p.id = :id")
+	Optional<Integer> findStockById(@Param("id") Long id);
+
+	/**
+	 * 조건부 재고 차감 (재고가 충분할 때만 차감, 차감 후 재고 반환)
+	 * 읽고-비교하고-쓰기 대신 단일 UPDATE로 처리하여 초과 판매 방지
+	 */
+	@Query(value = "UPDATE products SET stock = stock - :quantity, updated_at = now() "
+		+ "WHERE id = :id AND stock >= :quantity RETURNING stock", nativeQuery = true)
+	Optional<Integer> decreaseStockIfAvailable(@Param("id") Long id, @Param("quantity") int quantity);
+
+	/**
+	 * 다건 조건부 재고 차감 (ids, quantities 는 '{1,2,3}' 형식의 배열 리터럴)
+	 * id 순서로 먼저 row lock 을 잡은 뒤 차감하므로 동시 주문 간 데드락이 생기지 않음
+	 * @return 차감에 성공한 상품의 [id, 차감 후 재고]
+	 */
+	@Query(value = "WITH req AS ("
+		+ "  SELECT * FROM unnest(CAST(:ids AS bigint[]), CAST(:quantities AS int[])) AS r(id, quantity)"
+		+ "), locked AS ("
+		+ "  SELECT p.id FROM products p JOIN req ON req.id = p.id ORDER BY p.id FOR UPDATE OF p"
+		+ ") "
+		+ "UPDATE products p SET stock = p.stock - req.quantity, updated_at = now() "
+		+ "FROM req JOIN locked ON locked.id = req.id "
+		+ "WHERE p.id = req.id AND p.stock >= req.quantity "
+		+ "RETURNING p.id, p.stock", nativeQuery = true)
+	List<Object[]> decreaseStocksIfAvailable(@Param("ids") String ids, @Param("quantities") String quantities);
 }
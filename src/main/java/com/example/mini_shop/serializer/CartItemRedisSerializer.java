@@ -0,0 +1,36 @@
+package com.example.mini_shop.serializer;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import com.example.mini_shop.model.CartItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 장바구니 상품 바이너리 serializer
+ */
+public class CartItemRedisSerializer extends CompactRedisSerializer<CartItem> {
+
+	public CartItemRedisSerializer(ObjectMapper legacyMapper, int compressionThreshold) {
+		super(CartItem.class, legacyMapper, compressionThreshold);
+	}
+
+	@Override
+	protected void write(CartItem item, DataOutputStream out) throws IOException {
+		writeLong(out, item.getProductId());
+		writeString(out, item.getProductName());
+		writeDecimal(out, item.getPrice());
+		writeInt(out, item.getQuantity());
+	}
+
+	@Override
+	protected CartItem read(DataInputStream in) throws IOException {
+		return CartItem.builder()
+			.productId(readLong(in))
+			.productName(readString(in))
+			.price(readDecimal(in))
+			.quantity(readInt(in))
+			.build();
+	}
+}
@@ -0,0 +1,193 @@
+package com.example.mini_shop.serializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 타입별 바이너리 Redis serializer 공통 처리
+ *
+ * 포맷 : [header 1byte][payload]
+ *   header  : 0x10 = v1 비압축, 0x11 = v1 압축 (payload 가 임계값 이상이면 Deflate 압축)
+ *   payload : 하위 클래스가 필드 순서대로 기록 (nullable 필드는 존재 여부 1byte 선행)
+ *
+ * 기존 JSON 으로 저장된 값('{' 로 시작)은 ObjectMapper 로 읽어서 하위 호환 유지
+ */
+public abstract class CompactRedisSerializer<T> implements RedisSerializer<T> {
+
+	private static final byte FORMAT_V1 = 0x10;
+	private static final byte FLAG_COMPRESSED = 0x01;
+	private static final byte JSON_START = '{';
+
+	private final Class<T> type;
+	private final ObjectMapper legacyMapper;
+	private final int compressionThreshold;
+
+	protected CompactRedisSerializer(Class<T> type, ObjectMapper legacyMapper, int compressionThreshold) {
+		this.type = type;
+		this.legacyMapper = legacyMapper;
+		this.compressionThreshold = compressionThreshold;
+	}
+
+	protected abstract void write(T value, DataOutputStream out) throws IOException;
+
+	protected abstract T read(DataInputStream in) throws IOException;
+
+	@Override
+	public byte[] serialize(T value) throws SerializationException {
+		if (value == null) {
+			return new byte[0];
+		}
+
+		try {
+			ByteArrayOutputStream payload = new ByteArrayOutputStream(64);
+			try (DataOutputStream out = new DataOutputStream(payload)) {
+				write(value, out);
+			}
+
+			boolean compress = payload.size() >= compressionThreshold;
+			ByteArrayOutputStream result = new ByteArrayOutputStream(payload.size() + 1);
+			result.write(compress ? FORMAT_V1 | FLAG_COMPRESSED : FORMAT_V1);
+
+			if (compress) {
+				Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+				try (DeflaterOutputStream out = new DeflaterOutputStream(result, deflater)) {
+					payload.writeTo(out);
+				} finally {
+					deflater.end();
+				}
+			} else {
+				payload.writeTo(result);
+			}
+			return result.toByteArray();
+		} catch (IOException e) {
+			throw new SerializationException("Could not serialize " + type.getSimpleName(), e);
+		}
+	}
+
+	@Override
+	public T deserialize(byte[] bytes) throws SerializationException {
+		if (bytes == null || bytes.length == 0) {
+			return null;
+		}
+
+		try {
+			if (bytes[0] == JSON_START) {
+				return legacyMapper.readValue(bytes, type);
+			}
+
+			byte header = bytes[0];
+			if ((header & 0xF0) != FORMAT_V1) {
+				throw new SerializationException("Unknown format header: " + header);
+			}
+
+			InputStream payload = new ByteArrayInputStream(bytes, 1, bytes.length - 1);
+			if ((header & FLAG_COMPRESSED) != 0) {
+				payload = new InflaterInputStream(payload);
+			}
+			try (DataInputStream in = new DataInputStream(payload)) {
+				return read(in);
+			}
+		} catch (IOException e) {
+			throw new SerializationException("Could not deserialize " + type.getSimpleName(), e);
+		}
+	}
+
+	@Override
+	public Class<?> getTargetType() {
+		return type;
+	}
+
+	protected static void writeLong(DataOutputStream out, Long value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeLong(value);
+		}
+	}
+
+	protected static Long readLong(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readLong() : null;
+	}
+
+	protected static void writeInt(DataOutputStream out, Integer value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeInt(value);
+		}
+	}
+
+	protected static Integer readInt(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readInt() : null;
+	}
+
+	protected static void writeString(DataOutputStream out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	protected static String readString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	/**
+	 * scale 과 unscaled 길이를 1byte 씩 기록 (기존 저장 값과 포맷 유지)
+	 * 범위를 넘는 값은 잘려서 다른 값으로 읽히지 않도록 직렬화 실패 처리
+	 */
+	protected static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			byte[] unscaled = value.unscaledValue().toByteArray();
+			if (value.scale() < Byte.MIN_VALUE || value.scale() > Byte.MAX_VALUE) {
+				throw new SerializationException("Decimal scale out of range: " + value.scale());
+			}
+			if (unscaled.length > 0xFF) {
+				throw new SerializationException("Decimal too large: " + unscaled.length + " bytes");
+			}
+			out.writeByte(value.scale());
+			out.writeByte(unscaled.length);
+			out.write(unscaled);
+		}
+	}
+
+	protected static BigDecimal readDecimal(DataInputStream in) throws IOException {
+		if (!in.readBoolean()) {
+			return null;
+		}
+		int scale = in.readByte();
+		byte[] unscaled = new byte[in.readUnsignedByte()];
+		in.readFully(unscaled);
+		return new BigDecimal(new BigInteger(unscaled), scale);
+	}
+
+	protected static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+			out.writeInt(value.getNano());
+		}
+	}
+
+	protected static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+		if (!in.readBoolean()) {
+			return null;
+		}
+		return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+	}
+}
@@ -0,0 +1,44 @@
+package com.example.mini_shop.serializer;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import com.example.mini_shop.entity.Product;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 상품 바이너리 serializer (설명이 긴 상품은 압축)
+ */
+public class ProductRedisSerializer extends CompactRedisSerializer<Product> {
+
+	public ProductRedisSerializer(ObjectMapper legacyMapper, int compressionThreshold) {
+		super(Product.class, legacyMapper, compressionThreshold);
+	}
+
+	@Override
+	protected void write(Product product, DataOutputStream out) throws IOException {
+		writeLong(out, product.getId());
+		writeString(out, product.getName());
+		writeString(out, product.getDescription());
+		writeDecimal(out, product.getPrice());
+		writeInt(out, product.getStock());
+		writeString(out, product.getCategory());
+		writeDateTime(out, product.getCreatedAt());
+		writeDateTime(out, product.getUpdatedAt());
+	}
+
+	@Override
+	protected Product read(DataInputStream in) throws IOException {
+		return Product.builder()
+			.id(readLong(in))
+			.name(readString(in))
+			.description(readString(in))
+			.price(readDecimal(in))
+			.stock(readInt(in))
+			.category(readString(in))
+			.createdAt(readDateTime(in))
+			.updatedAt(readDateTime(in))
+			.build();
+	}
+}
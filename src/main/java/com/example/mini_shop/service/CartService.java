@@ -1,129 +1,202 @@
 package com.example.mini_shop.service;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import com.example.mini_shop.dto.CartBatchRequest;
 import com.example.mini_shop.entity.Product;
 import com.example.mini_shop.model.CartItem;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+@Timed(value = "shop.service", histogram = true)
 @RequiredArgsConstructor
 public class CartService {
 
-	private final RedisTemplate<String, Object> redisTemplate;
+	private final RedisTemplate<String, CartItem> cartRedisTemplate;
 	private final ProductService productService;
-	private final ObjectMapper objectMapper;
 	private static final String CART_KEY_PREFIX = "cart:";
 	private static final long CART_TTL = 24; // 24 hour
 
+	private static final long SCRIPT_LIMIT_EXCEEDED = -1;
+	private static final long SCRIPT_NOT_FOUND = -2;
+	private static final RedisScript<Long> SET_ITEM_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/cart_set_item.lua"), Long.class);
+	private static final RedisScript<Long> APPLY_BATCH_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/cart_apply_batch.lua"), Long.class);
+	private static final RedisSerializer<Long> LONG_RESULT = new GenericToStringSerializer<>(Long.class);
+
+	@Value("${shop.cart.max-lines:50}")
+	private int maxLines;
+
 	public void addToCart(String userId, Long productId, Integer quantity) {
-		log.info("Adding product {} to cart for user: {}, quantity: {}", productId, userId, quantity);
+		log.debug("Adding product {} to cart for user: {}, quantity: {}", productId, userId, quantity);
 
 		Product product = productService.getProduct(productId);
+		checkStock(product, quantity);
 
-		if (product.getStock() < quantity) {
-			log.warn("Insufficient stock for product {}: requested={}, available={}",
-				productId, quantity, product.getStock());
-			throw new RuntimeException("Insufficient stock");
+		long result = setItem(userId, toCartItem(product, quantity), false);
+		if (result == SCRIPT_LIMIT_EXCEEDED) {
+			log.warn("Cart line limit exceeded for user: {}, max={}", userId, maxLines);
+			throw new RuntimeException("Cart line limit exceeded");
 		}
 
-		String key = CART_KEY_PREFIX + userId;
-		CartItem cartItem = CartItem.builder()
-			.productId(productId)
-			.productName(product.getName())
-			.price(product.getPrice())
-			.quantity(quantity)
-			.build();
-
-		redisTemplate.opsForHash().put(key, String.valueOf(productId), cartItem);
-		redisTemplate.expire(key, CART_TTL, TimeUnit.HOURS);
-
-		log.info("Product {} added to cart successfully for user: {}", productId, userId);
+		log.debug("Product {} added to cart successfully for user: {}", productId, userId);
 	}
 
 	public List<CartItem> getCart(String userId) {
 		log.debug("Fetching cart for user: {}", userId);
 		String key = CART_KEY_PREFIX + userId;
-		List<Object> items = redisTemplate.opsForHash().values(key);
-
-		List<CartItem> cartItems = new ArrayList<>();
-		for (Object item : items) {
-			try {
-				if (item instanceof CartItem) {
-					cartItems.add((CartItem) item);
-				} else if (item instanceof Map) {
-					CartItem cartItem = objectMapper.convertValue(item, CartItem.class);
-					cartItems.add(cartItem);
-				}
-			} catch (Exception e) {
-				log.error("Failed to convert cart item: {}", e.getMessage());
-			}
-		}
+		HashOperations<String, String, CartItem> hashOps = cartRedisTemplate.opsForHash();
+		List<CartItem> cartItems = new ArrayList<>(hashOps.values(key));
 
 		log.debug("Found {} items in cart for user: {}", cartItems.size(), userId);
 		return cartItems;
 	}
 
 	public void updateCartItem(String userId, Long productId, Integer quantity) {
-		log.info("Updating cart item for user: {}, product: {}, new quantity: {}",
+		log.debug("Updating cart item for user: {}, product: {}, new quantity: {}",
 			userId, productId, quantity);
 
-		String key = CART_KEY_PREFIX + userId;
-		Object obj = redisTemplate.opsForHash().get(key, String.valueOf(productId));
+		Product product = productService.getProduct(productId);
+		checkStock(product, quantity);
 
-		if (obj == null) {
+		// 담긴 상품인 경우에만 수정 (현재 상품명/가격으로 갱신)
+		long result = setItem(userId, toCartItem(product, quantity), true);
+		if (result == SCRIPT_NOT_FOUND) {
 			log.error("Cart item not found for user: {}, product: {}", userId, productId);
 			throw new RuntimeException("Cart item not found");
 		}
 
-		CartItem cartItem;
-		try {
-			if (obj instanceof CartItem) {
-				cartItem = (CartItem) obj;
-			} else if (obj instanceof Map) {
-				cartItem = objectMapper.convertValue(obj, CartItem.class);
-			} else {
-				throw new RuntimeException("Invalid cart item type");
+		log.debug("Cart item updated successfully for user: {}, product: {}", userId, productId);
+	}
+
+	/**
+	 * 장바구니 여러 상품 일괄 변경 (Redis 호출 1회)
+	 * quantity 가 0 이하인 상품은 삭제, 같은 상품이 여러 번 있으면 마지막 값 적용
+	 */
+	public void applyBatch(String userId, List<CartBatchRequest.Line> lines) {
+		if (userId == null || userId.isBlank()) {
+			throw new IllegalArgumentException("userId is required");
+		}
+		if (lines == null || lines.isEmpty()) {
+			throw new IllegalArgumentException("items must not be empty");
+		}
+		log.debug("Applying {} cart changes for user: {}", lines.size(), userId);
+
+		Map<Long, Integer> quantities = new LinkedHashMap<>();
+		for (CartBatchRequest.Line line : lines) {
+			if (line == null || line.getProductId() == null) {
+				throw new IllegalArgumentException("productId is required for every item");
 			}
-		} catch (Exception e) {
-			log.error("Failed to get cart item: {}", e.getMessage());
-			throw new RuntimeException("Failed to get cart item: " + e.getMessage());
+			quantities.put(line.getProductId(), line.getQuantity());
 		}
 
-		Product product = productService.getProduct(productId);
-		if (product.getStock() < quantity) {
-			log.warn("Insufficient stock for product {}: requested={}, available={}",
-				productId, quantity, product.getStock());
-			throw new RuntimeException("Insufficient stock");
+		List<Long> addedIds = quantities.entrySet().stream()
+			.filter(entry -> entry.getValue() != null && entry.getValue() > 0)
+			.map(Map.Entry::getKey)
+			.toList();
+		Map<Long, Product> products = productService.getProductMap(addedIds);
+
+		List<byte[]> args = new ArrayList<>();
+		args.add(bytes(String.valueOf(TimeUnit.HOURS.toSeconds(CART_TTL))));
+		args.add(bytes(String.valueOf(maxLines)));
+
+		for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+			Long productId = entry.getKey();
+			Integer quantity = entry.getValue();
+			args.add(bytes(String.valueOf(productId)));
+
+			if (quantity == null || quantity <= 0) {
+				args.add(new byte[0]);
+				continue;
+			}
+
+			Product product = products.get(productId);
+			if (product == null) {
+				log.error("Product not found with id: {}", productId);
+				throw new RuntimeException("Product not found");
+			}
+			checkStock(product, quantity);
+			args.add(serialize(toCartItem(product, quantity)));
 		}
 
-		cartItem.setQuantity(quantity);
-		redisTemplate.opsForHash().put(key, String.valueOf(productId), cartItem);
+		Long result = cartRedisTemplate.execute(APPLY_BATCH_SCRIPT, RedisSerializer.byteArray(), LONG_RESULT,
+			List.of(CART_KEY_PREFIX + userId), args.toArray());
+		if (result != null && result == SCRIPT_LIMIT_EXCEEDED) {
+			log.warn("Cart line limit exceeded for user: {}, max={}", userId, maxLines);
+			throw new RuntimeException("Cart line limit exceeded");
+		}
 
-		log.info("Cart item updated successfully for user: {}, product: {}", userId, productId);
+		log.debug("Cart changes applied for user: {}, lines: {}", userId, result);
 	}
 
 	public void removeFromCart(String userId, Long productId) {
-		log.info("Removing product {} from cart for user: {}", productId, userId);
+		log.debug("Removing product {} from cart for user: {}", productId, userId);
 		String key = CART_KEY_PREFIX + userId;
-		redisTemplate.opsForHash().delete(key, String.valueOf(productId));
-		log.info("Product {} removed from cart for user: {}", productId, userId);
+		cartRedisTemplate.opsForHash().delete(key, String.valueOf(productId));
+		log.debug("Product {} removed from cart for user: {}", productId, userId);
 	}
 
 	public void clearCart(String userId) {
-		log.info("Clearing cart for user: {}", userId);
+		log.debug("Clearing cart for user: {}", userId);
 		String key = CART_KEY_PREFIX + userId;
-		redisTemplate.delete(key);
-		log.info("Cart cleared for user: {}", userId);
+		cartRedisTemplate.delete(key);
+		log.debug("Cart cleared for user: {}", userId);
+	}
+
+	private void checkStock(Product product, Integer quantity) {
+		if (product.getStock() < quantity) {
+			log.warn("Insufficient stock for product {}: requested={}, available={}",
+				product.getId(), quantity, product.getStock());
+			throw new RuntimeException("Insufficient stock");
+		}
+	}
+
+	private CartItem toCartItem(Product product, Integer quantity) {
+		return CartItem.builder()
+			.productId(product.getId())
+			.productName(product.getName())
+			.price(product.getPrice())
+			.quantity(quantity)
+			.build();
+	}
+
+	// HSET + EXPIRE + 최대 상품 수 확인을 Lua 스크립트 1회 호출로 처리
+	private long setItem(String userId, CartItem cartItem, boolean mustExist) {
+		Long result = cartRedisTemplate.execute(SET_ITEM_SCRIPT, RedisSerializer.byteArray(), LONG_RESULT,
+			List.of(CART_KEY_PREFIX + userId),
+			bytes(String.valueOf(cartItem.getProductId())),
+			serialize(cartItem),
+			bytes(String.valueOf(TimeUnit.HOURS.toSeconds(CART_TTL))),
+			bytes(String.valueOf(maxLines)),
+			bytes(mustExist ? "1" : "0"));
+		return result != null ? result : 0L;
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[] serialize(CartItem cartItem) {
+		return ((RedisSerializer<CartItem>) cartRedisTemplate.getHashValueSerializer()).serialize(cartItem);
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
 	}
 }
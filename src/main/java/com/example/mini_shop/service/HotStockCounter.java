@@ -0,0 +1,66 @@
+package com.example.mini_shop.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 인기 상품 재고 선차감용 인메모리 카운터
+ * DB 가 최종 기준이며, 이 카운터는 품절 상품 요청을 DB 까지 보내지 않고 빠르게 거절하는 용도
+ * 크기 제한 Caffeine 캐시로 보관 : 가득 차면 덜 쓰인 상품부터 밀려나고, TTL 이 지나면 DB 재고로 다시 채움
+ */
+class HotStockCounter {
+
+	private final Cache<Long, AtomicInteger> counters;
+
+	HotStockCounter(int maxEntries, long ttlMillis) {
+		this.counters = Caffeine.newBuilder()
+			.maximumSize(maxEntries)
+			.expireAfterWrite(Duration.ofMillis(ttlMillis))
+			.build();
+	}
+
+	/**
+	 * 재고 선차감 (CAS)
+	 * @return 카운터가 없는 상품이면 null, 차감 성공 여부 반환
+	 */
+	Boolean tryDecrement(Long productId, int quantity, Function<Long, Integer> stockLoader) {
+		// 없거나 만료된 상품은 DB 재고로 채움 (같은 상품의 동시 요청은 한 번만 조회)
+		AtomicInteger available = counters.get(productId, id -> {
+			Integer stock = stockLoader.apply(id);
+			return stock != null ? new AtomicInteger(stock) : null;
+		});
+		if (available == null) {
+			return null;
+		}
+
+		while (true) {
+			int current = available.get();
+			if (current < quantity) {
+				return false;
+			}
+			if (available.compareAndSet(current, current - quantity)) {
+				return true;
+			}
+		}
+	}
+
+	void increment(Long productId, int quantity) {
+		AtomicInteger available = counters.getIfPresent(productId);
+		if (available != null) {
+			available.addAndGet(quantity);
+		}
+	}
+
+	void invalidate(Long productId) {
+		counters.invalidate(productId);
+	}
+
+	Integer available(Long productId) {
+		AtomicInteger available = counters.getIfPresent(productId);
+		return available != null ? available.get() : null;
+	}
+}
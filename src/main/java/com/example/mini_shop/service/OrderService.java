@@ -1,12 +1,26 @@
 package com.example.mini_shop.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.mini_shop.dto.OrderCursor;
+import com.example.mini_shop.dto.OrderDetailResponse;
+import com.example.mini_shop.dto.OrderItemResponse;
+import com.example.mini_shop.dto.OrderPageResponse;
+import com.example.mini_shop.dto.OrderSummaryResponse;
 import com.example.mini_shop.entity.Order;
 import com.example.mini_shop.entity.OrderItem;
 import com.example.mini_shop.entity.Product;
@@ -15,12 +29,16 @@ import com.example.mini_shop.event.OrderCreatedEvent;
 import com.example.mini_shop.messaging.EventPublisher;
 import com.example.mini_shop.model.CartItem;
 import com.example.mini_shop.repository.OrderRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+@Timed(value = "shop.service", histogram = true)
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class OrderService {
@@ -28,11 +46,16 @@ public class OrderService {
 	private final OrderRepository orderRepository;
 	private final CartService cartService;
 	private final ProductService productService;
+	private final StockReservationService stockReservationService;
 	private final EventPublisher eventPublisher;
+	private final ObjectMapper objectMapper;
+	private final EntityManager entityManager;
+
+	private static final int EXPORT_FLUSH_SIZE = 500;
 
 	@Transactional
 	public Order createOrder(String userId, String customerName, String customerEmail) {
-		log.info("Creating order for user: {}", userId);
+		log.debug("Creating order for user: {}", userId);
 		List<CartItem> cartItems = cartService.getCart(userId);
 
 		if (cartItems.isEmpty()) {
@@ -46,22 +69,46 @@ public class OrderService {
 			.totalAmount(BigDecimal.ZERO)
 			.build();
 
-		BigDecimal totalAmount = BigDecimal.ZERO;
+		// 상품 id 순으로 정렬 (재고 차감 시 lock 순서 고정)
+		List<CartItem> sortedItems = cartItems.stream()
+			.sorted(Comparator.comparing(CartItem::getProductId))
+			.toList();
+
+		// 1. 주문 상품 일괄 조회
+		Map<Long, Product> products = productService.getProductsByIds(
+			sortedItems.stream().map(CartItem::getProductId).toList());
 
-		for (CartItem cartItem : cartItems) {
-			Product product = productService.getProduct(cartItem.getProductId());
+		List<StockReservation> reservations = new ArrayList<>();
+		try {
+			// 2. 전체 주문 상품 재고 예약 (품절 상품은 DB 차감 전에 거절)
+			for (CartItem cartItem : sortedItems) {
+				Product product = products.get(cartItem.getProductId());
+				if (product == null) {
+					log.error("Product not found with id: {}", cartItem.getProductId());
+					throw new RuntimeException("Product not found");
+				}
 
-			if (product.getStock() < cartItem.getQuantity()) {
-				log.error("Insufficient stock: productId={}, requested={}, available={}",
-					cartItem.getProductId(), cartItem.getQuantity(), product.getStock());
-				throw new RuntimeException("Insufficient stock for product: " + product.getName());
+				try {
+					reservations.add(stockReservationService.reserve(product.getId(), cartItem.getQuantity()));
+				} catch (RuntimeException e) {
+					log.error("Insufficient stock: productId={}, requested={}",
+						cartItem.getProductId(), cartItem.getQuantity());
+					throw new RuntimeException("Insufficient stock for product: " + product.getName());
+				}
 			}
 
-			// 재고 감소 (decreaseStock 메서드 사용)
-			productService.decreaseStock(product.getId(), cartItem.getQuantity());
+			// 3. 예약 확정 (단일 UPDATE 로 일괄 차감, 재고 이벤트 1회 발행)
+			productService.commitStocks(products, reservations);
+		} catch (RuntimeException e) {
+			// 확정되지 않은 예약 취소 (확정된 예약은 트랜잭션 롤백 시 복구)
+			reservations.forEach(stockReservationService::release);
+			throw e;
+		}
 
+		BigDecimal totalAmount = BigDecimal.ZERO;
+		for (CartItem cartItem : sortedItems) {
 			OrderItem orderItem = OrderItem.builder()
-				.product(product)
+				.product(products.get(cartItem.getProductId()))
 				.quantity(cartItem.getQuantity())
 				.price(cartItem.getPrice())
 				.build();
@@ -101,38 +148,111 @@ public class OrderService {
 
 		// 장바구니 비우기
 		cartService.clearCart(userId);
-		log.info("Cart cleared for user: {}", userId);
+		log.debug("Cart cleared for user: {}", userId);
 
 		return savedOrder;
 	}
 
-	public Order getOrder(Long orderId) {
+	/**
+	 * 주문 상세 조회 (주문 요약 1회 + 주문 상품 1회, 주문 상품 수와 무관)
+	 */
+	public OrderDetailResponse getOrder(Long orderId) {
 		log.debug("Fetching order with id: {}", orderId);
-		return orderRepository.findById(orderId)
+		OrderSummaryResponse summary = orderRepository.findSummaryById(orderId)
 			.orElseThrow(() -> {
 				log.error("Order not found with id: {}", orderId);
 				return new RuntimeException("Order not found");
 			});
+		return OrderDetailResponse.of(summary, orderRepository.findItemsByOrderIdIn(List.of(orderId)));
 	}
 
-	public List<Order> getOrdersByEmail(String email) {
-		log.info("Fetching orders for email: {}", email);
-		List<Order> orders = orderRepository.findByCustomerEmailOrderByCreatedAtDesc(email);
-		log.info("Found {} orders for email: {}", orders.size(), email);
-		return orders;
+	/**
+	 * 고객별 주문 keyset 페이지 조회 (최신순, 주문 상품 포함)
+	 */
+	public OrderPageResponse<OrderDetailResponse> getOrdersByEmail(String email, String cursor, int size) {
+		log.debug("Fetching orders for email: {}, cursor: {}, size: {}", email, cursor, size);
+		Limit limit = Limit.of(size + 1);
+		List<OrderSummaryResponse> summaries;
+		if (cursor == null) {
+			summaries = orderRepository.findSummaryPageByEmail(email, limit);
+		} else {
+			OrderCursor orderCursor = OrderCursor.decode(cursor);
+			summaries = orderRepository.findSummaryPageByEmailBefore(
+				email, orderCursor.getCreatedAt(), orderCursor.getId(), limit);
+		}
+
+		boolean hasNext = summaries.size() > size;
+		List<OrderSummaryResponse> page = hasNext ? summaries.subList(0, size) : summaries;
+
+		// 페이지 내 전체 주문의 주문 상품을 한 번에 조회
+		Map<Long, List<OrderItemResponse>> itemsByOrder = orderRepository
+			.findItemsByOrderIdIn(page.stream().map(OrderSummaryResponse::getId).toList())
+			.stream()
+			.collect(Collectors.groupingBy(OrderItemResponse::getOrderId));
+		List<OrderDetailResponse> orders = page.stream()
+			.map(summary -> OrderDetailResponse.of(summary, itemsByOrder.getOrDefault(summary.getId(), List.of())))
+			.toList();
+
+		log.debug("Found {} orders for email: {}", orders.size(), email);
+		return OrderPageResponse.of(orders, hasNext,
+			order -> new OrderCursor(order.getCreatedAt(), order.getId()));
 	}
 
-	public List<Order> getAllOrders() {
-		log.info("Fetching all orders");
-		List<Order> orders = orderRepository.findAll();
-		log.info("Found {} orders", orders.size());
-		return orders;
+	/**
+	 * 전체 주문 keyset 페이지 조회 (최신순, 요약만)
+	 */
+	public OrderPageResponse<OrderSummaryResponse> getAllOrders(String cursor, int size) {
+		log.debug("Fetching all orders, cursor: {}, size: {}", cursor, size);
+		Limit limit = Limit.of(size + 1);
+		List<OrderSummaryResponse> summaries;
+		if (cursor == null) {
+			summaries = orderRepository.findSummaryPage(limit);
+		} else {
+			OrderCursor orderCursor = OrderCursor.decode(cursor);
+			summaries = orderRepository.findSummaryPageBefore(orderCursor.getCreatedAt(), orderCursor.getId(), limit);
+		}
+
+		boolean hasNext = summaries.size() > size;
+		List<OrderSummaryResponse> orders = hasNext ? summaries.subList(0, size) : summaries;
+
+		log.debug("Found {} orders", orders.size());
+		return OrderPageResponse.of(orders, hasNext,
+			order -> new OrderCursor(order.getCreatedAt(), order.getId()));
+	}
+
+	/**
+	 * 전체 주문 NDJSON 내보내기 (한 줄에 주문 1건)
+	 * DB 커서로 읽으면서 쓴 주문은 영속성 컨텍스트에서 분리하여 메모리 사용량 일정하게 유지
+	 */
+	public long exportOrders(OutputStream outputStream) throws IOException {
+		log.info("Exporting all orders");
+		long count = 0;
+		try (Stream<Order> orders = orderRepository.streamAllWithItems()) {
+			Iterator<Order> iterator = orders.iterator();
+			while (iterator.hasNext()) {
+				Order order = iterator.next();
+				outputStream.write(objectMapper.writeValueAsBytes(order));
+				outputStream.write('\n');
+				entityManager.detach(order);
+
+				if (++count % EXPORT_FLUSH_SIZE == 0) {
+					outputStream.flush();
+				}
+			}
+		}
+		outputStream.flush();
+		log.info("Exported {} orders", count);
+		return count;
 	}
 
 	@Transactional
-	public Order updateOrderStatus(Long orderId, Order.OrderStatus status) {
-		log.info("Updating order status: orderId={}, newStatus={}", orderId, status);
-		Order order = getOrder(orderId);
+	public OrderDetailResponse updateOrderStatus(Long orderId, Order.OrderStatus status) {
+		log.debug("Updating order status: orderId={}, newStatus={}", orderId, status);
+		Order order = orderRepository.findById(orderId)
+			.orElseThrow(() -> {
+				log.error("Order not found with id: {}", orderId);
+				return new RuntimeException("Order not found");
+			});
 		Order.OrderStatus previousStatus = order.getStatus();
 		order.setStatus(status);
 		Order updatedOrder = orderRepository.save(order);
@@ -151,6 +271,6 @@ public class OrderService {
 				.build()
 		);
 
-		return updatedOrder;
+		return getOrder(orderId);
 	}
 }
@@ -0,0 +1,91 @@
+package com.example.mini_shop.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 상품명 접두어 검색용 불변 인덱스
+ * 상품명의 각 단어 시작 위치부터의 문자열(정규화)을 정렬 배열로 보관 -> 이진 탐색 + 순차 scan 으로 조회
+ * ("맥북 프로 14" 는 "맥북", "프로", "14" 어느 단어로 시작해도 조회됨)
+ * trie 대비 노드 객체가 없어 메모리가 작고, 조회는 O(log n + limit)
+ */
+class PrefixIndex {
+
+	static final PrefixIndex EMPTY = new PrefixIndex(new String[0], new String[0], true);
+
+	private final String[] keys;
+	private final String[] names;
+	private final boolean complete;
+
+	private PrefixIndex(String[] keys, String[] names, boolean complete) {
+		this.keys = keys;
+		this.names = names;
+		this.complete = complete;
+	}
+
+	/**
+	 * @param productNames 색인할 상품명
+	 * @param complete     전체 상품명을 담았는지 여부 (false 면 결과가 부족할 때 ES 조회 필요)
+	 */
+	static PrefixIndex build(Collection<String> productNames, boolean complete) {
+		List<String[]> entries = new ArrayList<>();
+		for (String name : productNames) {
+			String normalized = normalize(name);
+			for (int i = 0; i < normalized.length(); i++) {
+				if (i == 0 || normalized.charAt(i - 1) == ' ') {
+					entries.add(new String[] {normalized.substring(i), name});
+				}
+			}
+		}
+		entries.sort((a, b) -> {
+			int byKey = a[0].compareTo(b[0]);
+			return byKey != 0 ? byKey : a[1].compareTo(b[1]);
+		});
+
+		String[] keys = new String[entries.size()];
+		String[] names = new String[entries.size()];
+		for (int i = 0; i < entries.size(); i++) {
+			keys[i] = entries.get(i)[0];
+			names[i] = entries.get(i)[1];
+		}
+		return new PrefixIndex(keys, names, complete);
+	}
+
+	List<String> lookup(String prefix, int limit) {
+		String normalized = normalize(prefix);
+		if (normalized.isEmpty()) {
+			return List.of();
+		}
+
+		int position = Arrays.binarySearch(keys, normalized);
+		if (position < 0) {
+			position = -position - 1;
+		}
+
+		Set<String> results = new LinkedHashSet<>();
+		for (int i = position; i < keys.length && results.size() < limit; i++) {
+			if (!keys[i].startsWith(normalized)) {
+				break;
+			}
+			results.add(names[i]);
+		}
+		return List.copyOf(results);
+	}
+
+	boolean isComplete() {
+		return complete;
+	}
+
+	int size() {
+		return keys.length;
+	}
+
+	static String normalize(String value) {
+		return value == null ? "" : value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,317 @@
+package com.example.mini_shop.service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.AliasData;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.mini_shop.cache.SearchResultCache;
+import com.example.mini_shop.document.ProductDocument;
+import com.example.mini_shop.dto.ReindexStatusResponse;
+import com.example.mini_shop.entity.Product;
+import com.example.mini_shop.repository.ProductRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 검색 인덱스 전체 재색인
+ * 1. 새 버전 인덱스 생성 (products_v{yyyyMMddHHmmss}, ProductDocument 매핑)
+ * 2. DB 커서로 chunk 단위 조회 -> 병렬로 ES bulk 저장 (동시 bulk 수 / 초당 문서 수 제한)
+ * 3. products alias 를 새 인덱스로 원자적 교체 (이전 인덱스 삭제)
+ * 4. 재색인 중 수정된 상품을 다시 색인하고 삭제된 상품은 새 인덱스에서 삭제 (alias 교체 전 이전 인덱스에 반영된 변경 보정)
+ * ES 데이터 유실 복구, 매핑 변경 배포 시 검색 중단 없이 사용
+ */
+@Slf4j
+@Service
+public class ProductReindexService {
+
+	private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+	private final ProductRepository productRepository;
+	private final ElasticsearchOperations elasticsearchOperations;
+	private final SearchResultCache searchResultCache;
+	private final EntityManager entityManager;
+	private final TransactionTemplate readOnlyTransaction;
+	private final ExecutorService jobExecutor;
+	private final ExecutorService writeExecutor;
+	private final int chunkSize;
+	private final int writeConcurrency;
+	private final int maxDocsPerSecond;
+
+	private final Counter indexedCounter;
+	private final AtomicLong running = new AtomicLong();
+
+	private volatile ReindexStatusResponse status =
+		new ReindexStatusResponse(ReindexStatusResponse.State.IDLE, null, 0, 0, null, null, null);
+
+	public ProductReindexService(
+		ProductRepository productRepository,
+		ElasticsearchOperations elasticsearchOperations,
+		SearchResultCache searchResultCache,
+		EntityManager entityManager,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry,
+		@Value("${shop.search.reindex.chunk-size:500}") int chunkSize,
+		@Value("${shop.search.reindex.write-concurrency:2}") int writeConcurrency,
+		@Value("${shop.search.reindex.max-docs-per-second:0}") int maxDocsPerSecond) {
+		this.productRepository = productRepository;
+		this.elasticsearchOperations = elasticsearchOperations;
+		this.searchResultCache = searchResultCache;
+		this.entityManager = entityManager;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.jobExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "product-reindex"));
+		this.writeExecutor = Executors.newFixedThreadPool(writeConcurrency,
+			runnable -> new Thread(runnable, "product-reindex-writer"));
+		this.chunkSize = chunkSize;
+		this.writeConcurrency = writeConcurrency;
+		this.maxDocsPerSecond = maxDocsPerSecond;
+
+		this.indexedCounter = meterRegistry.counter("search.reindex.documents");
+		meterRegistry.gauge("search.reindex.running", running);
+	}
+
+	/**
+	 * 재색인 시작 (백그라운드 실행, 진행 상황은 getStatus 로 조회)
+	 */
+	public ReindexStatusResponse startReindex() {
+		if (!running.compareAndSet(0, 1)) {
+			log.warn("Reindex already running: targetIndex={}", status.getTargetIndex());
+			throw new RuntimeException("Reindex already running");
+		}
+
+		String targetIndex = ProductDocument.INDEX_ALIAS + "_v" + LocalDateTime.now().format(VERSION_FORMAT);
+		LocalDateTime startedAt = LocalDateTime.now();
+		long total = 0;
+		try {
+			total = productRepository.count();
+			status = new ReindexStatusResponse(ReindexStatusResponse.State.RUNNING, targetIndex,
+				total, 0, startedAt, null, null);
+			log.info("Starting product reindex: targetIndex={}, total={}", targetIndex, total);
+			submitReindex(targetIndex);
+		} catch (RuntimeException e) {
+			// 작업 시작 전 실패 (DB 조회 실패, executor 거절 등) 시 실행 중 표시 해제
+			log.error("Failed to start product reindex: targetIndex={}, error={}", targetIndex, e.getMessage(), e);
+			status = new ReindexStatusResponse(ReindexStatusResponse.State.FAILED, targetIndex,
+				total, 0, startedAt, LocalDateTime.now(), e.getMessage());
+			running.set(0);
+			throw e;
+		}
+		return status;
+	}
+
+	private void submitReindex(String targetIndex) {
+		jobExecutor.submit(() -> {
+			try {
+				long indexed = reindex(targetIndex);
+				status = new ReindexStatusResponse(ReindexStatusResponse.State.COMPLETED, targetIndex,
+					status.getTotal(), indexed, status.getStartedAt(), LocalDateTime.now(), null);
+				log.info("Product reindex completed: targetIndex={}, indexed={}", targetIndex, indexed);
+			} catch (Exception e) {
+				log.error("Product reindex failed: targetIndex={}, error={}", targetIndex, e.getMessage(), e);
+				status = new ReindexStatusResponse(ReindexStatusResponse.State.FAILED, targetIndex,
+					status.getTotal(), status.getIndexed(), status.getStartedAt(), LocalDateTime.now(), e.getMessage());
+				elasticsearchOperations.indexOps(IndexCoordinates.of(targetIndex)).delete();
+			} finally {
+				running.set(0);
+			}
+		});
+	}
+
+	public ReindexStatusResponse getStatus() {
+		return status;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		jobExecutor.shutdownNow();
+		writeExecutor.shutdownNow();
+	}
+
+	private long reindex(String targetIndex) {
+		LocalDateTime startedAt = status.getStartedAt();
+		IndexCoordinates target = IndexCoordinates.of(targetIndex);
+
+		IndexOperations targetOps = elasticsearchOperations.indexOps(target);
+		IndexOperations templateOps = elasticsearchOperations.indexOps(ProductDocument.class);
+		targetOps.create(templateOps.createSettings(), templateOps.createMapping());
+
+		AtomicLong indexed = new AtomicLong();
+		AtomicBoolean aborted = new AtomicBoolean();
+		Semaphore inFlight = new Semaphore(writeConcurrency);
+		List<CompletableFuture<Void>> writes = new ArrayList<>();
+		// 색인한 상품 id (chunk 단위, 재색인 중 삭제된 상품 확인용)
+		List<long[]> indexedIds = new ArrayList<>();
+		long throttleStartedAt = System.nanoTime();
+
+		try {
+			readOnlyTransaction.executeWithoutResult(tx -> {
+				try (Stream<Product> products = productRepository.streamAll()) {
+					Iterator<Product> iterator = products.iterator();
+					List<Product> chunk = new ArrayList<>(chunkSize);
+					while (iterator.hasNext()) {
+						chunk.add(iterator.next());
+						if (chunk.size() == chunkSize || !iterator.hasNext()) {
+							indexedIds.add(chunk.stream().mapToLong(Product::getId).toArray());
+							writes.add(submitChunk(chunk, target, inFlight, indexed, aborted));
+							// 읽은 상품은 영속성 컨텍스트에서 분리 (메모리 일정하게 유지)
+							entityManager.clear();
+							chunk = new ArrayList<>(chunkSize);
+							throttle(throttleStartedAt, (long) writes.size() * chunkSize);
+						}
+					}
+				}
+			});
+			CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new)).join();
+		} catch (RuntimeException e) {
+			// 남은 bulk 저장은 건너뛰고 진행 중인 저장이 끝날 때까지 대기
+			// (대상 인덱스 삭제 후 bulk 저장이 인덱스를 dynamic 매핑으로 다시 만들지 않도록)
+			aborted.set(true);
+			CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new))
+				.exceptionally(error -> null)
+				.join();
+			throw e;
+		}
+
+		targetOps.refresh();
+		swapAlias(targetIndex);
+		// 검색 결과 캐시 무효화 (새 인덱스 기준으로 다시 검색)
+		searchResultCache.bumpGeneration();
+
+		// 재색인 중 수정된 상품은 이전 인덱스에만 반영됐을 수 있으므로 새 인덱스에 다시 색인
+		// (alias 교체 후라 실패해도 새 인덱스는 유지, 이후 변경 이벤트로 보정)
+		try {
+			List<ProductDocument> changed = productRepository.findByUpdatedAtGreaterThanEqual(startedAt).stream()
+				.map(ProductDocument::from)
+				.toList();
+			if (!changed.isEmpty()) {
+				elasticsearchOperations.save(changed, target);
+				searchResultCache.bumpGeneration();
+				log.info("Reindexed {} products changed during reindex", changed.size());
+			}
+		} catch (Exception e) {
+			log.warn("Failed to reindex products changed during reindex: {}", e.getMessage());
+		}
+
+		// 재색인 중 삭제된 상품은 삭제 이벤트가 이전 인덱스에 반영됐으므로 새 인덱스에서 삭제
+		try {
+			long removed = removeDeleted(indexedIds, target);
+			if (removed > 0) {
+				searchResultCache.bumpGeneration();
+				log.info("Removed {} products deleted during reindex", removed);
+			}
+		} catch (Exception e) {
+			log.warn("Failed to remove products deleted during reindex: {}", e.getMessage());
+		}
+		return indexed.get();
+	}
+
+	/**
+	 * 색인한 상품 중 DB 에 없는 상품을 대상 인덱스에서 삭제 (chunk 단위 id 조회)
+	 */
+	private long removeDeleted(List<long[]> indexedIds, IndexCoordinates target) {
+		long removed = 0;
+		for (long[] ids : indexedIds) {
+			Set<Long> existing = new HashSet<>(
+				productRepository.findExistingIds(Arrays.stream(ids).boxed().toList()));
+			for (long id : ids) {
+				if (!existing.contains(id)) {
+					elasticsearchOperations.delete(String.valueOf(id), target);
+					removed++;
+				}
+			}
+		}
+		return removed;
+	}
+
+	private CompletableFuture<Void> submitChunk(List<Product> chunk, IndexCoordinates target, Semaphore inFlight,
+		AtomicLong indexed, AtomicBoolean aborted) {
+		// 동시에 진행 중인 bulk 요청 수 제한 (DB 읽기가 ES 쓰기보다 앞서 나가지 않도록)
+		inFlight.acquireUninterruptibly();
+		return CompletableFuture.runAsync(() -> {
+			try {
+				if (aborted.get()) {
+					return;
+				}
+				List<ProductDocument> documents = chunk.stream().map(ProductDocument::from).toList();
+				elasticsearchOperations.save(documents, target);
+				indexedCounter.increment(documents.size());
+				long total = indexed.addAndGet(documents.size());
+				status = new ReindexStatusResponse(ReindexStatusResponse.State.RUNNING, target.getIndexName(),
+					status.getTotal(), total, status.getStartedAt(), null, null);
+				log.debug("Reindex progress: {}/{}", total, status.getTotal());
+			} finally {
+				inFlight.release();
+			}
+		}, writeExecutor);
+	}
+
+	// 초당 문서 수 제한 (0 이면 제한 없음)
+	private void throttle(long startedAtNanos, long readDocs) {
+		if (maxDocsPerSecond <= 0) {
+			return;
+		}
+		long expectedNanos = TimeUnit.SECONDS.toNanos(readDocs) / maxDocsPerSecond;
+		long aheadNanos = expectedNanos - (System.nanoTime() - startedAtNanos);
+		if (aheadNanos > 0) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(aheadNanos);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException("Reindex interrupted", e);
+			}
+		}
+	}
+
+	/**
+	 * alias 를 새 인덱스로 교체하고 이전 인덱스 삭제 (단일 _aliases 요청으로 원자적 처리)
+	 * alias 도입 전 products 가 실제 인덱스였던 경우에도 같은 요청에서 삭제 후 alias 생성
+	 */
+	private void swapAlias(String targetIndex) {
+		String alias = ProductDocument.INDEX_ALIAS;
+		IndexOperations aliasOps = elasticsearchOperations.indexOps(IndexCoordinates.of(alias));
+
+		List<AliasAction> actions = new ArrayList<>();
+		if (aliasOps.exists()) {
+			Map<String, Set<AliasData>> current = aliasOps.getAliasesForIndex(alias);
+			for (String previousIndex : current.keySet()) {
+				actions.add(new AliasAction.RemoveIndex(
+					AliasActionParameters.builder().withIndices(previousIndex).build()));
+			}
+		}
+		actions.add(new AliasAction.Add(
+			AliasActionParameters.builder().withIndices(targetIndex).withAliases(alias).build()));
+
+		aliasOps.alias(new AliasActions(actions.toArray(AliasAction[]::new)));
+		log.info("Alias {} now points to {}", alias, targetIndex);
+	}
+}
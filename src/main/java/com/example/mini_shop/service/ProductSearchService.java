@@ -0,0 +1,213 @@
+package com.example.mini_shop.service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import com.example.mini_shop.cache.SearchResultCache;
+import com.example.mini_shop.document.ProductDocument;
+import com.example.mini_shop.dto.ProductFacets;
+import com.example.mini_shop.dto.ProductSearchRequest;
+import com.example.mini_shop.dto.ProductSearchResponse;
+import com.example.mini_shop.dto.ProductSummaryResponse;
+import com.example.mini_shop.dto.SearchCursor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Elasticsearch 상품 검색
+ * keyword : name(가중치 3) / description multi_match (점수 계산)
+ * 카테고리, 가격 범위 : bool filter (점수 계산 없음, ES filter cache 사용)
+ * 페이지 : (점수, id) 정렬 후 search_after
+ * facet : 검색과 같은 요청에서 집계, 검색 조건별로 짧은 TTL 로컬 캐시 (캐시 hit 시 집계 생략)
+ * 결과 : 같은 검색 조건 + 페이지는 SearchResultCache 에서 응답 (검색 인덱스가 바뀔 때까지 유지)
+ */
+@Slf4j
+@Service
+public class ProductSearchService {
+
+	private static final String[] CARD_FIELDS = {"id", "name", "price", "stock", "category"};
+	private static final String CATEGORY_AGG = "categories";
+	private static final String PRICE_AGG = "prices";
+	private static final String PRICE_HISTOGRAM_AGG = "histogram";
+	private static final int MAX_CATEGORIES = 50;
+
+	private final ElasticsearchOperations elasticsearchOperations;
+	private final SearchResultCache searchResultCache;
+	private final Cache<String, ProductFacets> facetCache;
+	private final double priceInterval;
+
+	public ProductSearchService(
+		ElasticsearchOperations elasticsearchOperations,
+		SearchResultCache searchResultCache,
+		MeterRegistry meterRegistry,
+		@Value("${shop.search.facet.ttl-seconds:30}") long facetTtlSeconds,
+		@Value("${shop.search.facet.max-size:1000}") long facetMaxSize,
+		@Value("${shop.search.facet.price-interval:100000}") double priceInterval) {
+		this.elasticsearchOperations = elasticsearchOperations;
+		this.searchResultCache = searchResultCache;
+		this.priceInterval = priceInterval;
+
+		this.facetCache = Caffeine.newBuilder()
+			.maximumSize(facetMaxSize)
+			.expireAfterWrite(Duration.ofSeconds(facetTtlSeconds))
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, facetCache, "product-facets");
+	}
+
+	public ProductSearchResponse search(ProductSearchRequest request, int size) {
+		return search(request, size, false);
+	}
+
+	/**
+	 * 검색 결과 + facet (facet 캐시에 없으면 같은 ES 요청에서 집계)
+	 */
+	public ProductSearchResponse searchWithFacets(ProductSearchRequest request, int size) {
+		return search(request, size, true);
+	}
+
+	private ProductSearchResponse search(ProductSearchRequest request, int size, boolean withFacets) {
+		return searchResultCache.get(request, size, withFacets, () -> searchIndex(request, size, withFacets));
+	}
+
+	private ProductSearchResponse searchIndex(ProductSearchRequest request, int size, boolean withFacets) {
+		log.debug("Searching products: keyword={}, category={}, price={}~{}, size={}, facets={}",
+			request.getKeyword(), request.getCategory(), request.getMinPrice(), request.getMaxPrice(), size,
+			withFacets);
+
+		String facetKey = withFacets ? facetKey(request) : null;
+		ProductFacets cachedFacets = withFacets ? facetCache.getIfPresent(facetKey) : null;
+		boolean aggregate = withFacets && cachedFacets == null;
+
+		NativeQueryBuilder builder = NativeQuery.builder()
+			.withSort(sort -> sort.score(score -> score.order(SortOrder.Desc)))
+			.withSort(sort -> sort.field(field -> field.field("id").order(SortOrder.Asc)))
+			.withSourceFilter(new FetchSourceFilterBuilder().withIncludes(CARD_FIELDS).build())
+			.withPageable(PageRequest.of(0, size + 1))
+			.withTrackTotalHits(false);
+		if (aggregate) {
+			// 카테고리 조건은 post_filter 로 빼서 카테고리 집계는 전체 카테고리 기준으로 계산
+			builder.withQuery(buildQuery(request, false));
+			categoryFilter(request).ifPresent(builder::withFilter);
+			builder.withAggregation(CATEGORY_AGG, Aggregation.of(agg -> agg
+				.terms(terms -> terms.field("category").size(MAX_CATEGORIES))));
+			builder.withAggregation(PRICE_AGG, Aggregation.of(agg -> agg
+				.filter(categoryFilter(request).orElse(Query.of(query -> query.matchAll(all -> all))))
+				.aggregations(PRICE_HISTOGRAM_AGG, Aggregation.of(histogram -> histogram
+					.histogram(price -> price.field("price").interval(priceInterval).minDocCount(1))))));
+		} else {
+			builder.withQuery(buildQuery(request, true));
+		}
+		if (request.getCursor() != null) {
+			builder.withSearchAfter(SearchCursor.decode(request.getCursor()).toSearchAfter());
+		}
+
+		SearchHits<ProductDocument> hits = elasticsearchOperations.search(builder.build(), ProductDocument.class);
+		List<SearchHit<ProductDocument>> page = hits.getSearchHits();
+
+		boolean hasNext = page.size() > size;
+		if (hasNext) {
+			page = page.subList(0, size);
+		}
+		List<ProductSummaryResponse> items = page.stream()
+			.map(hit -> ProductSummaryResponse.from(hit.getContent()))
+			.toList();
+		String nextCursor = hasNext ? SearchCursor.from(page.get(page.size() - 1).getSortValues()).encode() : null;
+
+		ProductFacets facets = cachedFacets;
+		if (aggregate) {
+			facets = toFacets((ElasticsearchAggregations) hits.getAggregations());
+			facetCache.put(facetKey, facets);
+		}
+
+		log.debug("Found {} products, hasNext: {}", items.size(), hasNext);
+		return new ProductSearchResponse(items, nextCursor, hasNext, facets);
+	}
+
+	// 검색 조건 -> bool query
+	private Query buildQuery(ProductSearchRequest request, boolean includeCategory) {
+		BoolQuery.Builder bool = new BoolQuery.Builder();
+
+		if (StringUtils.hasText(request.getKeyword())) {
+			bool.must(must -> must.multiMatch(match -> match
+				.query(request.getKeyword())
+				.fields("name^3", "name.std^3", "description", "description.std")
+				.minimumShouldMatch("70%")));
+		} else {
+			bool.must(must -> must.matchAll(all -> all));
+		}
+
+		if (includeCategory) {
+			categoryFilter(request).ifPresent(bool::filter);
+		}
+		if (request.getMinPrice() != null || request.getMaxPrice() != null) {
+			bool.filter(filter -> filter.range(range -> range.number(number -> {
+				number.field("price");
+				if (request.getMinPrice() != null) {
+					number.gte(request.getMinPrice().doubleValue());
+				}
+				if (request.getMaxPrice() != null) {
+					number.lte(request.getMaxPrice().doubleValue());
+				}
+				return number;
+			})));
+		}
+
+		return Query.of(query -> query.bool(bool.build()));
+	}
+
+	private Optional<Query> categoryFilter(ProductSearchRequest request) {
+		if (!StringUtils.hasText(request.getCategory())) {
+			return Optional.empty();
+		}
+		return Optional.of(Query.of(query -> query.term(term -> term
+			.field("category")
+			.value(request.getCategory()))));
+	}
+
+	private ProductFacets toFacets(ElasticsearchAggregations aggregations) {
+		Aggregate categories = aggregations.get(CATEGORY_AGG).aggregation().getAggregate();
+		Aggregate prices = aggregations.get(PRICE_AGG).aggregation().getAggregate()
+			.filter().aggregations().get(PRICE_HISTOGRAM_AGG);
+
+		List<ProductFacets.CategoryCount> categoryCounts = categories.sterms().buckets().array().stream()
+			.map(bucket -> new ProductFacets.CategoryCount(bucket.key().stringValue(), bucket.docCount()))
+			.toList();
+		List<ProductFacets.PriceRange> priceRanges = prices.histogram().buckets().array().stream()
+			.map(bucket -> new ProductFacets.PriceRange(
+				BigDecimal.valueOf(bucket.key()),
+				BigDecimal.valueOf(bucket.key() + priceInterval),
+				bucket.docCount()))
+			.toList();
+		return new ProductFacets(categoryCounts, priceRanges);
+	}
+
+	// facet 은 페이지(cursor, size)와 무관하므로 검색 조건만으로 캐시
+	private static String facetKey(ProductSearchRequest request) {
+		return request.getKeyword() + "|" + request.getCategory() + "|"
+			+ request.getMinPrice() + "|" + request.getMaxPrice();
+	}
+}
@@ -1,38 +1,56 @@
 package com.example.mini_shop.service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.example.mini_shop.document.ProductDocument;
+import com.example.mini_shop.cache.ProductCache;
+import com.example.mini_shop.cache.ProductPageCache;
+import com.example.mini_shop.dto.ProductPageResponse;
 import com.example.mini_shop.entity.Product;
 import com.example.mini_shop.event.ElasticsearchIndexEvent;
+import com.example.mini_shop.event.StockBatchUpdatedEvent;
 import com.example.mini_shop.event.StockUpdatedEvent;
 import com.example.mini_shop.messaging.EventPublisher;
 import com.example.mini_shop.repository.ProductRepository;
-import com.example.mini_shop.repository.ProductSearchRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+@Timed(value = "shop.service", histogram = true)
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ProductService {
 
 	private final ProductRepository productRepository;
-	private final ProductSearchRepository productSearchRepository;
 	private final EventPublisher eventPublisher;
+	private final StockReservationService stockReservationService;
+	private final ProductCache productCache;
+	private final ProductPageCache productPageCache;
 
 
-	// 개별 상품 조회는 캐시하지 않음 (LinkedHashMap 문제 방지)
+	/**
+	 * 상품 단건 조회 (로컬 + Redis 2단 캐시)
+	 * 캐시된 인스턴스는 여러 요청이 공유하므로 수정 경로에서는 DB 에서 직접 조회
+	 */
 	public Product getProduct(Long id) {
 		log.debug("Fetching product with id: {}", id);
+		return productCache.get(id, this::findProduct);
+	}
+
+	private Product findProduct(Long id) {
 		return productRepository.findById(id)
 			.orElseThrow(() -> {
 				log.error("Product not found with id: {}", id);
@@ -40,19 +58,63 @@ public class ProductService {
 			});
 	}
 
-	@Cacheable(value = "products", key = "'all'")
-	public List<Product> getAllProducts() {
-		log.info("Fetching all products");
-		List<Product> products = productRepository.findAll();
-		log.info("Found {} products", products.size());
-		return products;
+	/**
+	 * 여러 상품 일괄 조회 (로컬 + Redis 2단 캐시, 캐시에 없는 상품만 DB 조회)
+	 */
+	public Map<Long, Product> getProductMap(Collection<Long> ids) {
+		log.debug("Fetching {} products from cache", ids.size());
+		return productCache.getAll(ids, this::getProductsByIds);
+	}
+
+	/**
+	 * 여러 상품 일괄 조회 (단일 쿼리)
+	 */
+	public Map<Long, Product> getProductsByIds(Collection<Long> ids) {
+		log.debug("Fetching {} products by ids", ids.size());
+		return productRepository.findAllById(ids).stream()
+			.collect(Collectors.toMap(Product::getId, Function.identity()));
+	}
+
+	/**
+	 * 상품 목록 keyset 페이지 조회 (category 가 null 이면 전체)
+	 * 페이지의 상품 id 목록은 ProductPageCache, 상품 데이터는 ProductCache 에서 조회
+	 */
+	public ProductPageResponse getProducts(String category, Long cursor, int size) {
+		log.debug("Fetching products: category={}, cursor={}, size={}", category, cursor, size);
+		String scope = category != null ? ProductPageCache.categoryScope(category) : ProductPageCache.ALL_SCOPE;
+		long after = cursor != null ? cursor : 0L;
+
+		ProductPageCache.Lookup lookup = productPageCache.get(scope, cursor, size);
+		ProductPageCache.IdPage page = lookup.getPage();
+		if (page != null) {
+			Map<Long, Product> products = productCache.getAll(page.getIds(), this::getProductsByIds);
+			List<Product> items = page.getIds().stream()
+				.map(products::get)
+				.filter(Objects::nonNull)
+				.toList();
+			return ProductPageResponse.of(items, page.isHasNext());
+		}
+
+		// size + 1 건 조회로 다음 페이지 존재 여부 확인
+		Limit limit = Limit.of(size + 1);
+		List<Product> rows = category != null
+			? productRepository.findByCategoryAndIdGreaterThanOrderByIdAsc(category, after, limit)
+			: productRepository.findByIdGreaterThanOrderByIdAsc(after, limit);
+
+		boolean hasNext = rows.size() > size;
+		List<Product> items = hasNext ? rows.subList(0, size) : rows;
+		productPageCache.put(lookup, scope, size,
+			new ProductPageCache.IdPage(items.stream().map(Product::getId).toList(), hasNext));
+
+		log.debug("Found {} products: category={}, hasNext={}", items.size(), category, hasNext);
+		return ProductPageResponse.of(items, hasNext);
 	}
 
 	@Transactional
-	@CacheEvict(value = "products", allEntries = true)
 	public Product createProduct(Product product) {
 		log.info("Creating new product: {}", product.getName());
 		Product savedProduct = productRepository.save(product);
+		evictPages(savedProduct.getCategory());
 
 		// Elasticsearch 인덱싱 이벤트 발행 (비동기)
 		eventPublisher.publishElasticsearchIndex(
@@ -66,12 +128,12 @@ public class ProductService {
 	}
 
 	@Transactional
-	@CacheEvict(value = "products", allEntries = true)
 	public Product updateProduct(Long id, Product productDetails) {
-		log.info("Updating product with id: {}", id);
-		Product product = getProduct(id);
+		log.debug("Updating product with id: {}", id);
+		Product product = findProduct(id);
 
 		Integer previousStock = product.getStock();
+		String previousCategory = product.getCategory();
 
 		product.setName(productDetails.getName());
 		product.setDescription(productDetails.getDescription());
@@ -80,6 +142,13 @@ public class ProductService {
 		product.setCategory(productDetails.getCategory());
 
 		Product updatedProduct = productRepository.save(product);
+		stockReservationService.invalidate(id);
+		productCache.evict(id);
+		// 카테고리가 바뀐 경우에만 카테고리 목록 페이지 변경 (전체 목록 페이지는 id 순서 그대로)
+		if (!Objects.equals(previousCategory, updatedProduct.getCategory())) {
+			evictCategoryPage(previousCategory);
+			evictCategoryPage(updatedProduct.getCategory());
+		}
 		log.info("Product updated successfully: {}", id);
 
 		// 재고 변동이 있으면 재고 업데이트 이벤트 발행
@@ -108,10 +177,12 @@ public class ProductService {
 	}
 
 	@Transactional
-	@CacheEvict(value = "products", allEntries = true)
 	public void deleteProduct(Long id) {
 		log.info("Deleting product with id: {}", id);
+		productRepository.findById(id).ifPresent(product -> evictPages(product.getCategory()));
 		productRepository.deleteById(id);
+		stockReservationService.invalidate(id);
+		productCache.evict(id);
 
 		// Elasticsearch 삭제 이벤트 발행 (비동기)
 		eventPublisher.publishElasticsearchIndex(
@@ -123,38 +194,37 @@ public class ProductService {
 		);
 	}
 
-	public List<ProductDocument> searchProducts(String keyword) {
-		log.info("Searching products with keyword: {}", keyword);
-		List<ProductDocument> results = productSearchRepository
-			.findByNameContainingOrDescriptionContaining(keyword, keyword);
-		log.info("Found {} products matching keyword: {}", results.size(), keyword);
-		return results;
+	private void evictPages(String category) {
+		productPageCache.invalidate(ProductPageCache.ALL_SCOPE);
+		evictCategoryPage(category);
 	}
 
-	public List<Product> getProductsByCategory(String category) {
-		log.info("Fetching products by category: {}", category);
-		List<Product> products = productRepository.findByCategory(category);
-		log.info("Found {} products in category: {}", products.size(), category);
-		return products;
+	private void evictCategoryPage(String category) {
+		if (category != null) {
+			productPageCache.invalidate(ProductPageCache.categoryScope(category));
+		}
 	}
 
 	@Transactional
 	public void decreaseStock(Long productId, Integer quantity) {
-		log.info("Decreasing stock for product: {}, quantity: {}", productId, quantity);
+		log.debug("Decreasing stock for product: {}, quantity: {}", productId, quantity);
 		Product product = getProduct(productId);
+		StockReservation reservation = stockReservationService.reserve(productId, quantity);
+		commitStock(product, reservation);
+	}
 
-		if (product.getStock() < quantity) {
-			log.error("Insufficient stock: productId={}, requested={}, available={}",
-				productId, quantity, product.getStock());
-			throw new RuntimeException("Insufficient stock");
-		}
-
-		Integer previousStock = product.getStock();
-		product.setStock(product.getStock() - quantity);
-		productRepository.save(product);
+	/**
+	 * 예약된 재고를 DB 에 반영하고 재고 업데이트 이벤트 발행
+	 */
+	@Transactional
+	public void commitStock(Product product, StockReservation reservation) {
+		int currentStock = stockReservationService.commit(reservation);
+		int previousStock = currentStock + reservation.getQuantity();
+		// 캐시된 상품의 재고 값 갱신 (커밋 후, 삭제하지 않음)
+		productCache.updateStocks(Map.of(product.getId(), currentStock));
 
-		log.info("Stock decreased successfully: productId={}, previousStock={}, currentStock={}",
-			productId, previousStock, product.getStock());
+		log.debug("Stock decreased successfully: productId={}, previousStock={}, currentStock={}",
+			product.getId(), previousStock, currentStock);
 
 		// 재고 업데이트 이벤트 발행
 		eventPublisher.publishStockUpdated(
@@ -162,10 +232,47 @@ public class ProductService {
 				.productId(product.getId())
 				.productName(product.getName())
 				.previousStock(previousStock)
-				.currentStock(product.getStock())
+				.currentStock(currentStock)
 				.operation("DECREASE")
 				.updatedAt(LocalDateTime.now())
 				.build()
 		);
 	}
+
+	/**
+	 * 주문 상품 재고를 단일 UPDATE 로 일괄 차감하고 재고 이벤트를 한 번만 발행
+	 */
+	@Transactional
+	public void commitStocks(Map<Long, Product> products, List<StockReservation> reservations) {
+		Map<Long, Integer> currentStocks = stockReservationService.commitAll(reservations);
+		LocalDateTime now = LocalDateTime.now();
+		// 캐시된 상품의 재고 값 갱신 (커밋 후, 삭제하지 않음)
+		productCache.updateStocks(currentStocks);
+
+		List<StockUpdatedEvent> items = reservations.stream()
+			.sorted(Comparator.comparing(StockReservation::getProductId))
+			.map(reservation -> {
+				Product product = products.get(reservation.getProductId());
+				Integer currentStock = currentStocks.get(reservation.getProductId());
+				return StockUpdatedEvent.builder()
+					.productId(product.getId())
+					.productName(product.getName())
+					.previousStock(currentStock + reservation.getQuantity())
+					.currentStock(currentStock)
+					.operation("DECREASE")
+					.updatedAt(now)
+					.build();
+			})
+			.toList();
+
+		log.debug("Stock decreased successfully for {} products", items.size());
+
+		// 재고 일괄 업데이트 이벤트 발행
+		eventPublisher.publishStockBatchUpdated(
+			StockBatchUpdatedEvent.builder()
+				.items(items)
+				.updatedAt(now)
+				.build()
+		);
+	}
 }
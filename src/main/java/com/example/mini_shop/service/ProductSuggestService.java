@@ -0,0 +1,151 @@
+package com.example.mini_shop.service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.suggest.response.Suggest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.mini_shop.cache.SearchResultCache;
+import com.example.mini_shop.document.ProductDocument;
+import com.example.mini_shop.repository.ProductRepository;
+
+import co.elastic.clients.elasticsearch.core.search.Suggester;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품명 자동완성
+ * 상품명 접두어 인덱스를 메모리에 두고 조회 (키 입력마다 ES 를 호출하지 않음)
+ * 인덱스는 검색 인덱스 세대가 바뀌면 stale 표시 (다른 노드의 색인도 pub/sub 으로 반영) -> 스케줄러가 재생성하여 교체
+ * 메모리 인덱스가 아직 없거나, 상품 수가 상한을 넘어 일부만 담았는데 결과가 부족하면 ES completion suggester 로 조회
+ */
+@Slf4j
+@Service
+public class ProductSuggestService {
+
+	private static final String SUGGEST_NAME = "product-suggest";
+
+	private final ProductRepository productRepository;
+	private final ElasticsearchOperations elasticsearchOperations;
+	private final int maxProducts;
+	private final long maxAgeMillis;
+
+	private final AtomicBoolean stale = new AtomicBoolean(true);
+	private final Counter memoryLookups;
+	private final Counter elasticsearchLookups;
+
+	private volatile PrefixIndex index;
+	private volatile long loadedAt;
+
+	public ProductSuggestService(
+		ProductRepository productRepository,
+		ElasticsearchOperations elasticsearchOperations,
+		SearchResultCache searchResultCache,
+		MeterRegistry meterRegistry,
+		@Value("${shop.search.suggest.max-products:50000}") int maxProducts,
+		@Value("${shop.search.suggest.max-age-millis:300000}") long maxAgeMillis) {
+		this.productRepository = productRepository;
+		this.elasticsearchOperations = elasticsearchOperations;
+		this.maxProducts = maxProducts;
+		this.maxAgeMillis = maxAgeMillis;
+
+		this.memoryLookups = Counter.builder("search.suggest")
+			.tag("source", "memory")
+			.register(meterRegistry);
+		this.elasticsearchLookups = Counter.builder("search.suggest")
+			.tag("source", "elasticsearch")
+			.register(meterRegistry);
+
+		searchResultCache.onGenerationChange(this::markStale);
+	}
+
+	public List<String> suggest(String prefix, int limit) {
+		String normalized = PrefixIndex.normalize(prefix);
+		if (normalized.isEmpty()) {
+			return List.of();
+		}
+
+		PrefixIndex current = index;
+		if (current != null) {
+			List<String> names = current.lookup(normalized, limit);
+			if (names.size() >= limit || current.isComplete()) {
+				memoryLookups.increment();
+				return names;
+			}
+		}
+
+		elasticsearchLookups.increment();
+		return suggestFromElasticsearch(normalized, limit);
+	}
+
+	/**
+	 * 검색 인덱스 세대 변경 시 호출 (다음 스케줄에 인덱스 재생성)
+	 */
+	public void markStale() {
+		stale.set(true);
+	}
+
+	@Scheduled(fixedDelayString = "${shop.search.suggest.rebuild-delay-millis:1000}")
+	public void rebuildIfStale() {
+		boolean expired = System.currentTimeMillis() - loadedAt >= maxAgeMillis;
+		if (!stale.getAndSet(false) && !expired) {
+			return;
+		}
+
+		try {
+			long startedAt = System.currentTimeMillis();
+			List<String> names = productRepository.findNames(Limit.of(maxProducts + 1));
+			boolean complete = names.size() <= maxProducts;
+			PrefixIndex rebuilt = PrefixIndex.build(complete ? names : names.subList(0, maxProducts), complete);
+
+			index = rebuilt;
+			loadedAt = System.currentTimeMillis();
+			log.info("Suggest index rebuilt: products={}, entries={}, complete={}, took {} ms",
+				Math.min(names.size(), maxProducts), rebuilt.size(), complete, loadedAt - startedAt);
+		} catch (RuntimeException e) {
+			// 다음 스케줄에 다시 시도, 그동안 기존 인덱스로 응답
+			stale.set(true);
+			log.error("Failed to rebuild suggest index: {}", e.getMessage(), e);
+		}
+	}
+
+	private List<String> suggestFromElasticsearch(String prefix, int limit) {
+		NativeQuery query = NativeQuery.builder()
+			.withSuggester(Suggester.of(suggester -> suggester
+				.suggesters(SUGGEST_NAME, field -> field
+					.prefix(prefix)
+					.completion(completion -> completion
+						.field("suggest")
+						.size(limit)
+						.skipDuplicates(true)))))
+			.withMaxResults(0)
+			.build();
+
+		SearchHits<ProductDocument> hits = elasticsearchOperations.search(query, ProductDocument.class);
+		Suggest suggest = hits.getSuggest();
+		if (suggest == null || suggest.getSuggestion(SUGGEST_NAME) == null) {
+			return List.of();
+		}
+
+		Set<String> names = new LinkedHashSet<>();
+		for (Suggest.Suggestion.Entry<? extends Suggest.Suggestion.Entry.Option> entry
+			: suggest.getSuggestion(SUGGEST_NAME).getEntries()) {
+			for (Suggest.Suggestion.Entry.Option option : entry.getOptions()) {
+				if (names.size() < limit) {
+					names.add(option.getText());
+				}
+			}
+		}
+		return List.copyOf(names);
+	}
+}
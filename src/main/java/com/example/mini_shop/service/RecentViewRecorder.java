@@ -0,0 +1,132 @@
+package com.example.mini_shop.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최근 본 상품 비동기 기록기
+ * 상품 상세 요청은 버퍼에 넣고 바로 반환, 백그라운드 writer 가 모아서 Redis 에 pipeline 으로 저장
+ * 같은 사용자/상품의 반복 조회는 마지막 조회 시각 하나로 합침
+ * 버퍼가 가득 차면 기다리지 않고 버림 (recent_views.dropped 메트릭)
+ */
+@Slf4j
+@Component
+public class RecentViewRecorder {
+
+	private final RecentViewService recentViewService;
+	private final BlockingQueue<View> buffer;
+	private final int batchSize;
+	private final long flushIntervalMillis;
+
+	private final Counter recorded;
+	private final Counter dropped;
+	private final Counter flushFailures;
+
+	private volatile boolean running;
+	private Thread writer;
+
+	public RecentViewRecorder(
+		RecentViewService recentViewService,
+		MeterRegistry meterRegistry,
+		@Value("${shop.recent-view.buffer-size:10000}") int bufferSize,
+		@Value("${shop.recent-view.batch-size:500}") int batchSize,
+		@Value("${shop.recent-view.flush-interval-millis:100}") long flushIntervalMillis) {
+		this.recentViewService = recentViewService;
+		this.buffer = new ArrayBlockingQueue<>(bufferSize);
+		this.batchSize = batchSize;
+		this.flushIntervalMillis = flushIntervalMillis;
+
+		this.recorded = meterRegistry.counter("recent_views.recorded");
+		this.dropped = meterRegistry.counter("recent_views.dropped");
+		this.flushFailures = meterRegistry.counter("recent_views.flush.failures");
+		meterRegistry.gauge("recent_views.buffer.size", buffer, BlockingQueue::size);
+	}
+
+	/**
+	 * 조회 기록 (Redis 를 기다리지 않음)
+	 */
+	public void record(String userId, Long productId) {
+		if (buffer.offer(new View(userId, productId, System.currentTimeMillis()))) {
+			recorded.increment();
+		} else {
+			dropped.increment();
+			log.debug("Recent view buffer full, dropping view: userId={}, productId={}", userId, productId);
+		}
+	}
+
+	@PostConstruct
+	void start() {
+		running = true;
+		writer = new Thread(this::drainLoop, "recent-view-writer");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	@PreDestroy
+	void stop() throws InterruptedException {
+		running = false;
+		writer.interrupt();
+		writer.join(TimeUnit.SECONDS.toMillis(5));
+
+		// 종료 전 남은 기록 저장
+		List<View> remaining = new ArrayList<>();
+		buffer.drainTo(remaining);
+		if (!remaining.isEmpty()) {
+			flush(remaining);
+		}
+	}
+
+	private void drainLoop() {
+		List<View> batch = new ArrayList<>(batchSize);
+		while (running) {
+			try {
+				View first = buffer.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				buffer.drainTo(batch, batchSize - 1);
+				flush(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void flush(List<View> views) {
+		// 사용자별 -> 상품별 마지막 조회 시각으로 합침
+		Map<String, Map<Long, Long>> viewsByUser = new LinkedHashMap<>();
+		for (View view : views) {
+			viewsByUser.computeIfAbsent(view.userId(), userId -> new LinkedHashMap<>())
+				.merge(view.productId(), view.viewedAt(), Math::max);
+		}
+
+		try {
+			recentViewService.addRecentViews(viewsByUser);
+			log.debug("Flushed {} recent views for {} users", views.size(), viewsByUser.size());
+		} catch (Exception e) {
+			flushFailures.increment();
+			log.warn("Failed to flush {} recent views: {}", views.size(), e.getMessage());
+		}
+	}
+
+	private record View(String userId, Long productId, long viewedAt) {
+	}
+}
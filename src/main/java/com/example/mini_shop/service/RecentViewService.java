@@ -1,21 +1,34 @@
 package com.example.mini_shop.service;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import com.example.mini_shop.dto.ProductSummaryResponse;
 import com.example.mini_shop.entity.Product;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+@Timed(value = "shop.service", histogram = true)
 @RequiredArgsConstructor
 public class RecentViewService {
 
@@ -26,65 +39,79 @@ public class RecentViewService {
 	private static final int MAX_RECENT_ITEMS = 10; // 최대 10개 저장
 	private static final long TTL_DAYS = 30; // 30일 보관
 
+	private static final RedisScript<Long> ADD_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/recent_view_add.lua"), Long.class);
+	private static final RedisSerializer<Long> LONG_RESULT = new GenericToStringSerializer<>(Long.class);
+
 	/**
 	 * 최근 본 상품 추가
 	 * ZSet 사용 timestamp를 score로 저장
+	 * ZADD + 오래된 항목 삭제 + EXPIRE 를 Lua 스크립트 1회 호출로 처리
 	 */
 	public void addRecentView(String userId, Long productId) {
-		log.info("Adding product {} to recent views for user: {}", productId, userId);
+		log.debug("Adding product {} to recent views for user: {}", productId, userId);
 
 		String key = RECENT_VIEW_KEY_PREFIX + userId;
-		double score = System.currentTimeMillis();
+		Long size = redisTemplate.execute(ADD_SCRIPT, RedisSerializer.byteArray(), LONG_RESULT,
+			List.of(key),
+			serializeMember(productId),
+			bytes(String.valueOf(System.currentTimeMillis())),
+			bytes(String.valueOf(MAX_RECENT_ITEMS)),
+			bytes(String.valueOf(TimeUnit.DAYS.toSeconds(TTL_DAYS))));
 
-		// ZSet에 추가
-		redisTemplate.opsForZSet().add(key, productId.toString(), score);
+		log.debug("Recent view added successfully. Current size: {} for user: {}", size, userId);
+	}
 
-		// 최대 개수 초과 시 오래된 항목 삭제
-		Long size = redisTemplate.opsForZSet().size(key);
-		if (size != null && size > MAX_RECENT_ITEMS) {
-			Long removed = redisTemplate.opsForZSet().removeRange(key, 0, size - MAX_RECENT_ITEMS - 1);
-			log.debug("Removed {} old items from recent views for user: {}", removed, userId);
-		}
+	/**
+	 * 여러 사용자의 최근 본 상품 일괄 추가 (Redis pipeline 1회)
+	 * viewsByUser : userId -> (productId -> 조회 시각 epoch millis)
+	 */
+	public void addRecentViews(Map<String, Map<Long, Long>> viewsByUser) {
+		long ttlSeconds = TimeUnit.DAYS.toSeconds(TTL_DAYS);
 
-		// TTL 설정
-		redisTemplate.expire(key, TTL_DAYS, TimeUnit.DAYS);
+		redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (Map.Entry<String, Map<Long, Long>> entry : viewsByUser.entrySet()) {
+				byte[] key = bytes(RECENT_VIEW_KEY_PREFIX + entry.getKey());
 
-		log.debug("Recent view added successfully. Current size: {} for user: {}", size, userId);
+				Set<Tuple> tuples = new HashSet<>();
+				entry.getValue().forEach((productId, viewedAt) ->
+					tuples.add(Tuple.of(serializeMember(productId), viewedAt.doubleValue())));
+
+				connection.zSetCommands().zAdd(key, tuples);
+				connection.zSetCommands().zRemRange(key, 0, -MAX_RECENT_ITEMS - 1);
+				connection.keyCommands().expire(key, ttlSeconds);
+			}
+			return null;
+		});
 	}
 
 	/**
 	 * 최근 본 상품 목록 조회 ( 최신순 )
+	 * 상품은 캐시 multi-get 으로 한 번에 조회 (캐시에 없는 상품만 DB 1회 조회)
 	 */
-	public List<Product> getRecentViews(String userId) {
-		log.info("Fetching recent views for user: {}", userId);
-
-		String key = RECENT_VIEW_KEY_PREFIX + userId;
+	public List<ProductSummaryResponse> getRecentViews(String userId) {
+		log.debug("Fetching recent views for user: {}", userId);
 
-		// ZSet에서 최신순으로 조회 ( 역순 )
-		Set<Object> productIds = redisTemplate.opsForZSet()
-			.reverseRange(key, 0, MAX_RECENT_ITEMS - 1);
-
-		if (productIds == null || productIds.isEmpty()) {
-			log.info("No recent views found for user: {}", userId);
+		List<Long> productIds = getRecentViewIds(userId);
+		if (productIds.isEmpty()) {
+			log.debug("No recent views found for user: {}", userId);
 			return new ArrayList<>();
 		}
 
-		log.debug("Found {} product IDs in recent views for user: {}", productIds.size(), userId);
-
-		// Products information
-		List<Product> recentProducts = new ArrayList<>();
-		for (Object obj : productIds) {
-			try {
-				Long productId = Long.parseLong(obj.toString());
-				Product product = productService.getProduct(productId);
-				recentProducts.add(product);
-				log.debug("Added product {} to recent views list", productId);
-			} catch (Exception e) {
-				log.warn("Failed to load product from recent views: {}", e.getMessage());
-			}
-		}
+		Map<Long, Product> products = productService.getProductMap(productIds);
 
-		log.info("Returning {} recent products for user: {}", recentProducts.size(), userId);
+		// ZSet 순서(최신순) 유지, 삭제된 상품은 제외
+		List<ProductSummaryResponse> recentProducts = productIds.stream()
+			.map(products::get)
+			.filter(Objects::nonNull)
+			.map(ProductSummaryResponse::from)
+			.toList();
+
+		if (recentProducts.size() < productIds.size()) {
+			log.warn("Skipped {} missing products in recent views for user: {}",
+				productIds.size() - recentProducts.size(), userId);
+		}
+		log.debug("Returning {} recent products for user: {}", recentProducts.size(), userId);
 
 		return recentProducts;
 	}
@@ -98,7 +125,7 @@ public class RecentViewService {
 		String key = RECENT_VIEW_KEY_PREFIX + userId;
 		Long count = redisTemplate.opsForZSet().size(key);
 
-		log.info("Recent view count for user {}: {}", userId, count != null ? count : 0);
+		log.debug("Recent view count for user {}: {}", userId, count != null ? count : 0);
 		return count != null ? count : 0L;
 	}
 
@@ -106,13 +133,13 @@ public class RecentViewService {
 	 * 특정 상품 제거
 	 */
 	public void removeRecentView(String userId, Long productId) {
-		log.info("Removing product {} from recent views for user: {}", productId, userId);
+		log.debug("Removing product {} from recent views for user: {}", productId, userId);
 
 		String key = RECENT_VIEW_KEY_PREFIX + userId;
 		Long removed = redisTemplate.opsForZSet().remove(key, productId.toString());
 
 		if (removed != null && removed > 0) {
-			log.info("Product {} removed successfully from recent views for user: {}", productId, userId);
+			log.debug("Product {} removed successfully from recent views for user: {}", productId, userId);
 		} else {
 			log.warn("Product {} was not in recent views for user: {}", productId, userId);
 		}
@@ -122,13 +149,13 @@ public class RecentViewService {
 	 * 전체 최근 본 상품 삭제
 	 */
 	public void clearRecentViews(String userId) {
-		log.info("Clearing all recent views for user: {}", userId);
+		log.debug("Clearing all recent views for user: {}", userId);
 
 		String key = RECENT_VIEW_KEY_PREFIX + userId;
 		Boolean deleted = redisTemplate.delete(key);
 
 		if (deleted) {
-			log.info("Recent views cleared successfully for user: {}", userId);
+			log.debug("Recent views cleared successfully for user: {}", userId);
 		} else {
 			log.warn("No recent views found to clear for user: {}", userId);
 		}
@@ -153,8 +180,18 @@ public class RecentViewService {
 			.map(obj -> Long.parseLong(obj.toString()))
 			.collect(Collectors.toList());
 
-		log.info("Returning {} recent view IDs for user: {}", ids.size(), userId);
+		log.debug("Returning {} recent view IDs for user: {}", ids.size(), userId);
 		return ids;
 	}
 
+	// ZSet member 는 RedisTemplate value serializer 형식 그대로 저장 (조회 시 역직렬화 일치)
+	private byte[] serializeMember(Long productId) {
+		@SuppressWarnings("unchecked")
+		RedisSerializer<Object> serializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+		return serializer.serialize(productId.toString());
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
 }
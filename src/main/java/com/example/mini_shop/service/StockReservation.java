@@ -0,0 +1,29 @@
+package com.example.mini_shop.service;
+
+import lombok.Getter;
+
+/**
+ * 재고 예약 (reserve -> commit / release)
+ */
+@Getter
+public class StockReservation {
+
+	private final Long productId;
+	private final int quantity;
+	private final boolean counted; // 인메모리 카운터에서 선차감 되었는지 여부
+	private State state = State.RESERVED;
+
+	StockReservation(Long productId, int quantity, boolean counted) {
+		this.productId = productId;
+		this.quantity = quantity;
+		this.counted = counted;
+	}
+
+	void setState(State state) {
+		this.state = state;
+	}
+
+	public enum State {
+		RESERVED, COMMITTED, RELEASED
+	}
+}
@@ -0,0 +1,163 @@
+package com.example.mini_shop.service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.mini_shop.repository.ProductRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재고 예약 엔진
+ * 1. reserve : 인기 상품은 인메모리 카운터에서 선차감 (품절 시 DB 접근 없이 즉시 거절)
+ * 2. commit  : 조건부 UPDATE (stock >= quantity) 로 DB 재고 차감, 트랜잭션 롤백 시 카운터 복구
+ * 3. release : commit 전 취소 시 카운터 복구
+ */
+@Slf4j
+@Service
+public class StockReservationService {
+
+	private final ProductRepository productRepository;
+	private final HotStockCounter hotStockCounter;
+
+	public StockReservationService(
+		ProductRepository productRepository,
+		@Value("${shop.stock.hot-counter.max-entries:1000}") int maxEntries,
+		@Value("${shop.stock.hot-counter.ttl-millis:5000}") long ttlMillis) {
+		this.productRepository = productRepository;
+		this.hotStockCounter = new HotStockCounter(maxEntries, ttlMillis);
+	}
+
+	public StockReservation reserve(Long productId, int quantity) {
+		Boolean decremented = hotStockCounter.tryDecrement(productId, quantity,
+			id -> productRepository.findStockById(id).orElse(null));
+
+		if (Boolean.FALSE.equals(decremented)) {
+			log.warn("Insufficient stock (hot counter): productId={}, requested={}", productId, quantity);
+			throw new RuntimeException("Insufficient stock");
+		}
+
+		return new StockReservation(productId, quantity, decremented != null);
+	}
+
+	/**
+	 * DB 재고 차감
+	 * @return 차감 후 재고
+	 */
+	@Transactional
+	public int commit(StockReservation reservation) {
+		checkReserved(reservation);
+
+		Long productId = reservation.getProductId();
+		Integer remaining = productRepository.decreaseStockIfAvailable(productId, reservation.getQuantity())
+			.orElse(null);
+
+		if (remaining == null) {
+			release(reservation);
+			// 카운터와 DB 가 어긋난 상태이므로 다음 예약 시 DB 에서 다시 적재
+			hotStockCounter.invalidate(productId);
+			log.error("Insufficient stock: productId={}, requested={}", productId, reservation.getQuantity());
+			throw new RuntimeException("Insufficient stock");
+		}
+
+		markCommitted(List.of(reservation));
+		return remaining;
+	}
+
+	/**
+	 * 여러 상품 재고를 단일 UPDATE 로 일괄 차감
+	 * 상품 id 순서로 row lock 을 잡아 동시 주문 간 데드락 방지
+	 * 하나라도 재고가 부족하면 전체 예약을 취소하고 예외 발생 (트랜잭션 롤백으로 DB 원복)
+	 * @return 상품 id 별 차감 후 재고
+	 */
+	@Transactional
+	public Map<Long, Integer> commitAll(List<StockReservation> reservations) {
+		reservations.forEach(this::checkReserved);
+
+		List<StockReservation> sorted = reservations.stream()
+			.sorted(Comparator.comparing(StockReservation::getProductId))
+			.toList();
+
+		String ids = sorted.stream()
+			.map(reservation -> String.valueOf(reservation.getProductId()))
+			.collect(Collectors.joining(",", "{", "}"));
+		String quantities = sorted.stream()
+			.map(reservation -> String.valueOf(reservation.getQuantity()))
+			.collect(Collectors.joining(",", "{", "}"));
+
+		Map<Long, Integer> remaining = new HashMap<>();
+		for (Object[] row : productRepository.decreaseStocksIfAvailable(ids, quantities)) {
+			remaining.put(((Number) row[0]).longValue(), ((Number) row[1]).intValue());
+		}
+
+		if (remaining.size() != sorted.size()) {
+			sorted.forEach(this::release);
+			StockReservation failed = sorted.stream()
+				.filter(reservation -> !remaining.containsKey(reservation.getProductId()))
+				.findFirst()
+				.orElseThrow();
+			hotStockCounter.invalidate(failed.getProductId());
+			log.error("Insufficient stock: productId={}, requested={}", failed.getProductId(), failed.getQuantity());
+			throw new RuntimeException("Insufficient stock for product id: " + failed.getProductId());
+		}
+
+		markCommitted(sorted);
+		return remaining;
+	}
+
+	public void release(StockReservation reservation) {
+		if (reservation.getState() != StockReservation.State.RESERVED) {
+			return;
+		}
+		reservation.setState(StockReservation.State.RELEASED);
+		if (reservation.isCounted()) {
+			hotStockCounter.increment(reservation.getProductId(), reservation.getQuantity());
+		}
+	}
+
+	/**
+	 * 관리자 재고 수정/상품 삭제 시 카운터 무효화
+	 */
+	public void invalidate(Long productId) {
+		hotStockCounter.invalidate(productId);
+	}
+
+	private void checkReserved(StockReservation reservation) {
+		if (reservation.getState() != StockReservation.State.RESERVED) {
+			throw new IllegalStateException("Reservation is not in RESERVED state: " + reservation.getState());
+		}
+	}
+
+	/**
+	 * 트랜잭션 롤백 시 DB 재고는 원복되므로 카운터도 복구
+	 */
+	private void markCommitted(List<StockReservation> reservations) {
+		reservations.forEach(reservation -> reservation.setState(StockReservation.State.COMMITTED));
+
+		List<StockReservation> counted = reservations.stream()
+			.filter(StockReservation::isCounted)
+			.toList();
+		if (counted.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status != STATUS_COMMITTED) {
+					counted.forEach(reservation ->
+						hotStockCounter.increment(reservation.getProductId(), reservation.getQuantity()));
+				}
+			}
+		});
+	}
+}
@@ -0,0 +1,33 @@
+-- 장바구니 여러 상품 일괄 변경 (원자적 처리)
+-- KEYS[1]   : cart:{userId}
+-- ARGV[1]   : TTL (seconds)
+-- ARGV[2]   : 최대 상품 수
+-- ARGV[3..] : productId, 직렬화된 CartItem 쌍 (값이 빈 문자열이면 삭제)
+-- return    : 변경 후 상품 수, -1 = 최대 상품 수 초과 (아무것도 변경하지 않음)
+local size = redis.call('HLEN', KEYS[1])
+
+for i = 3, #ARGV, 2 do
+    local exists = redis.call('HEXISTS', KEYS[1], ARGV[i]) == 1
+    if ARGV[i + 1] == '' then
+        if exists then size = size - 1 end
+    elseif not exists then
+        size = size + 1
+    end
+end
+
+if size > tonumber(ARGV[2]) then
+    return -1
+end
+
+for i = 3, #ARGV, 2 do
+    if ARGV[i + 1] == '' then
+        redis.call('HDEL', KEYS[1], ARGV[i])
+    else
+        redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+    end
+end
+
+if size > 0 then
+    redis.call('EXPIRE', KEYS[1], ARGV[1])
+end
+return size
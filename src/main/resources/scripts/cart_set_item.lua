@@ -0,0 +1,21 @@
+-- 장바구니 상품 저장 + TTL 갱신 + 최대 상품 수 제한 (원자적 처리)
+-- KEYS[1] : cart:{userId}
+-- ARGV[1] : productId (hash field)
+-- ARGV[2] : 직렬화된 CartItem
+-- ARGV[3] : TTL (seconds)
+-- ARGV[4] : 최대 상품 수
+-- ARGV[5] : '1' 이면 이미 담긴 상품만 수정
+-- return  : 저장 후 상품 수, -1 = 최대 상품 수 초과, -2 = 담긴 상품 없음
+local exists = redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1
+
+if ARGV[5] == '1' and not exists then
+    return -2
+end
+
+if not exists and redis.call('HLEN', KEYS[1]) >= tonumber(ARGV[4]) then
+    return -1
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+redis.call('EXPIRE', KEYS[1], ARGV[3])
+return redis.call('HLEN', KEYS[1])
@@ -0,0 +1,8 @@
+-- 상품 캐시 삭제 + 무효화 버전 증가 (원자적 처리)
+-- KEYS[1] : product:{id}
+-- KEYS[2] : product-version:{id}
+-- ARGV[1] : 버전 키 TTL (seconds, 진행 중인 조회보다 충분히 길게)
+-- return  : 삭제된 키 수
+redis.call('INCR', KEYS[2])
+redis.call('EXPIRE', KEYS[2], ARGV[1])
+return redis.call('DEL', KEYS[1])
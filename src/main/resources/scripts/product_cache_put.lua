@@ -0,0 +1,19 @@
+-- 상품 캐시 조건부 저장 (조회 시작 이후 무효화가 없었을 때만 저장)
+-- KEYS[1] : product:{id}
+-- KEYS[2] : product-version:{id}
+-- ARGV[1] : 조회 시작 시점의 버전 (키 없으면 '0')
+-- ARGV[2] : 직렬화된 Product
+-- ARGV[3] : TTL (seconds)
+-- ARGV[4] : '1' 이면 저장 후 버전 증가 (재고 갱신 : 진행 중인 이전 조회 결과 저장 차단)
+-- return  : 1 = 저장, 0 = 버전 불일치로 저장 안 함
+local current = redis.call('GET', KEYS[2]) or '0'
+if current ~= ARGV[1] then
+    return 0
+end
+
+redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+if ARGV[4] == '1' then
+    redis.call('INCR', KEYS[2])
+    redis.call('EXPIRE', KEYS[2], ARGV[3])
+end
+return 1
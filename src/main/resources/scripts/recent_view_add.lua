@@ -0,0 +1,11 @@
+-- 최근 본 상품 추가 + 최대 개수 초과분 삭제 + TTL 갱신 (원자적 처리)
+-- KEYS[1] : recent_view:{userId}
+-- ARGV[1] : 직렬화된 productId (ZSet member)
+-- ARGV[2] : 조회 시각 (score, epoch millis)
+-- ARGV[3] : 최대 보관 개수
+-- ARGV[4] : TTL (seconds)
+-- return  : 정리 후 보관 개수
+redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -tonumber(ARGV[3]) - 1)
+redis.call('EXPIRE', KEYS[1], ARGV[4])
+return redis.call('ZCARD', KEYS[1])
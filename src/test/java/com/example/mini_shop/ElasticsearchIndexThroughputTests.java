@@ -0,0 +1,127 @@
+package com.example.mini_shop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.mini_shop.config.RabbitMQConfig;
+import com.example.mini_shop.document.ProductDocument;
+import com.example.mini_shop.entity.Product;
+import com.example.mini_shop.event.ElasticsearchIndexEvent;
+import com.example.mini_shop.repository.ProductRepository;
+
+/**
+ * 인덱싱 이벤트 listener 처리량 측정 (docs/sec, RabbitMQ -> DB 조회 -> ES bulk)
+ * 기본 빌드에서는 실행하지 않음 : mvn test -Dtest=ElasticsearchIndexThroughputTests -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@Import({TestcontainersConfiguration.class, RabbitMQContainerConfiguration.class})
+@SpringBootTest(properties = "shop.outbox.relay-enabled=false")
+class ElasticsearchIndexThroughputTests {
+
+	private static final int PRODUCTS = 20_000;
+	private static final int INSERT_CHUNK = 1_000;
+	// 10 개 중 1 개는 미리 색인해 두고 삭제 이벤트 전송 (같은 bulk 요청에 색인/삭제가 섞이도록)
+	private static final int DELETE_EVERY = 10;
+	private static final String CATEGORY = "es-throughput";
+	private static final String DELETED_CATEGORY = "es-throughput-deleted";
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private RabbitTemplate rabbitTemplate;
+
+	@Autowired
+	private ElasticsearchOperations elasticsearchOperations;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void indexThroughput() throws InterruptedException {
+		List<Long> ids = new ArrayList<>(PRODUCTS);
+		for (int start = 0; start < PRODUCTS; start += INSERT_CHUNK) {
+			int from = start;
+			transactionTemplate.executeWithoutResult(status -> {
+				List<Product> products = new ArrayList<>(INSERT_CHUNK);
+				for (int i = from; i < from + INSERT_CHUNK; i++) {
+					products.add(Product.builder()
+						.name("벤치마크 상품 " + i)
+						.description("throughput product " + i)
+						.price(BigDecimal.valueOf(1000 + i))
+						.stock(100)
+						.category(CATEGORY)
+						.build());
+				}
+				productRepository.saveAll(products).forEach(product -> ids.add(product.getId()));
+			});
+		}
+
+		// 삭제 대상은 별도 카테고리로 미리 색인 (색인/삭제 진행 상황을 각각 단조 증가/감소하는 count 로 확인)
+		List<ProductDocument> toDelete = new ArrayList<>();
+		for (int i = 0; i < ids.size(); i += DELETE_EVERY) {
+			toDelete.add(ProductDocument.builder()
+				.id(String.valueOf(ids.get(i)))
+				.name("삭제 대상 " + i)
+				.category(DELETED_CATEGORY)
+				.build());
+		}
+		elasticsearchOperations.save(toDelete);
+
+		long startedAt = System.nanoTime();
+		for (int i = 0; i < ids.size(); i++) {
+			send(ids.get(i), i % DELETE_EVERY == 0 ? "DELETE" : "INDEX");
+		}
+
+		int deletes = toDelete.size();
+		int indexes = PRODUCTS - deletes;
+		long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(5);
+		long indexed = 0;
+		long remaining = deletes;
+		while (System.nanoTime() < deadline) {
+			indexed = count(CATEGORY);
+			remaining = count(DELETED_CATEGORY);
+			if (indexed == indexes && remaining == 0) {
+				break;
+			}
+			Thread.sleep(100);
+		}
+		double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+		System.out.printf("Elasticsearch indexing: %d index + %d delete events in %.2fs (%.0f docs/sec)%n",
+			indexes, deletes, seconds, PRODUCTS / seconds);
+		assertThat(indexed).isEqualTo(indexes);
+		assertThat(remaining).isZero();
+	}
+
+	private void send(Long productId, String operation) {
+		rabbitTemplate.convertAndSend(RabbitMQConfig.SHOP_EXCHANGE, RabbitMQConfig.ELASTICSEARCH_ROUTING_KEY,
+			ElasticsearchIndexEvent.builder()
+				.productId(productId)
+				.operation(operation)
+				.timestamp(LocalDateTime.now())
+				.build());
+	}
+
+	private long count(String category) {
+		NativeQuery query = NativeQuery.builder()
+			.withQuery(q -> q.term(t -> t.field("category").value(category)))
+			.build();
+		return elasticsearchOperations.count(query, ProductDocument.class);
+	}
+}
@@ -0,0 +1,193 @@
+package com.example.mini_shop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.net.URLEncoder;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
+
+import com.example.mini_shop.dto.ReindexStatusResponse;
+import com.example.mini_shop.entity.Product;
+import com.example.mini_shop.loadtest.LatencyReport;
+import com.example.mini_shop.loadtest.LoadGenerator;
+import com.example.mini_shop.repository.ProductRepository;
+import com.example.mini_shop.service.ProductReindexService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 전체 구성(PostgreSQL, Redis, Elasticsearch, RabbitMQ 컨테이너)으로 띄운 애플리케이션에 HTTP 부하
+ * 시나리오별로 endpoint 별 처리량과 응답 시간 백분위(HDR histogram) 출력
+ * 기본 빌드에서는 실행하지 않음 : mvn test -Dtest=LoadTests -Dloadtest=true
+ * 옵션 : -Dloadtest.users=50 -Dloadtest.duration-seconds=30 -Dloadtest.products=2000
+ * 플랫폼/virtual thread 비교 : 같은 -DargLine=-Xmx512m 으로 기본 실행과 -Pvirtual-threads 실행 결과 비교
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@Import({TestcontainersConfiguration.class, RabbitMQContainerConfiguration.class})
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LoadTests {
+
+	private static final int USERS = Integer.getInteger("loadtest.users", 50);
+	private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("loadtest.duration-seconds", 30));
+	private static final int PRODUCTS = Integer.getInteger("loadtest.products", 2000);
+	private static final double MAX_ERROR_RATIO = 0.01;
+
+	private static final String[] BRANDS = {"삼성", "LG", "애플", "소니", "나이키", "아디다스", "뉴발란스", "노스페이스"};
+	private static final String[] ITEMS = {"노트북", "스마트폰", "헤드폰", "스마트워치", "운동화", "패딩", "트레이닝복", "모니터"};
+	private static final String[] CATEGORIES = {"전자기기", "신발", "의류"};
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private ProductReindexService productReindexService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private Environment environment;
+
+	private LoadGenerator generator;
+	private List<Long> productIds;
+
+	@BeforeAll
+	void setUp() throws InterruptedException {
+		List<Product> products = new ArrayList<>();
+		for (int i = 0; i < PRODUCTS; i++) {
+			products.add(Product.builder()
+				.name(BRANDS[i % BRANDS.length] + " " + ITEMS[i / BRANDS.length % ITEMS.length] + " " + i)
+				.description("부하 테스트 상품 " + i)
+				.price(BigDecimal.valueOf(10_000 + i * 100L))
+				.stock(1_000_000)
+				.category(CATEGORIES[i % CATEGORIES.length])
+				.build());
+		}
+		productIds = productRepository.saveAll(products).stream().map(Product::getId).toList();
+
+		// 검색 시나리오용으로 한 번에 색인 (재색인 완료까지 대기)
+		productReindexService.startReindex();
+		while (productReindexService.getStatus().getState() == ReindexStatusResponse.State.RUNNING) {
+			Thread.sleep(200);
+		}
+		assertThat(productReindexService.getStatus().getState()).isEqualTo(ReindexStatusResponse.State.COMPLETED);
+
+		generator = new LoadGenerator("http://localhost:" + port, USERS);
+	}
+
+	/**
+	 * 목록 -> 상세 -> 장바구니 담기 -> 주문
+	 */
+	@Test
+	void shoppingJourney() throws InterruptedException {
+		LatencyReport report = generator.run("shopping journey", USERS, DURATION, (user, iteration) -> {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			String userId = "load-user-" + user;
+
+			JsonNode items = json(generator.get("GET /api/products",
+				"/api/products?size=20&cursor=" + randomProductId(random))).path("items");
+			long productId = items.isEmpty()
+				? randomProductId(random)
+				: items.get(random.nextInt(items.size())).path("id").asLong();
+
+			generator.get("GET /api/products/{id}", "/api/products/" + productId + "?userId=" + userId);
+			generator.post("POST /api/cart", "/api/cart", objectMapper.writeValueAsString(
+				Map.of("userId", userId, "productId", productId, "quantity", 1)));
+			generator.post("POST /api/orders", "/api/orders", objectMapper.writeValueAsString(
+				Map.of("userId", userId, "customerName", "load " + user, "customerEmail", userId + "@example.com")));
+		});
+
+		print(report);
+		assertThat(report.errorRatio()).isLessThan(MAX_ERROR_RATIO);
+	}
+
+	/**
+	 * 상품 수정 폭주 (기존 docs/test.sh 시나리오 : 여러 상품 동시 PUT)
+	 */
+	@Test
+	void productUpdateStorm() throws InterruptedException {
+		LatencyReport report = generator.run("product update storm", USERS, DURATION, (user, iteration) -> {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			long productId = randomProductId(random);
+			generator.put("PUT /api/products/{id}", "/api/products/" + productId, objectMapper.writeValueAsString(
+				Map.of(
+					"name", "맥북 프로 " + productId,
+					"description", "M3 칩셋 " + iteration,
+					"price", 2_890_000 + random.nextInt(100) * 1000,
+					"stock", 1_000_000,
+					"category", "전자기기")));
+		});
+
+		print(report);
+		assertThat(report.errorRatio()).isLessThan(MAX_ERROR_RATIO);
+	}
+
+	/**
+	 * 검색 (키워드 검색, facet 포함 검색, 자동완성)
+	 */
+	@Test
+	void search() throws InterruptedException {
+		LatencyReport report = generator.run("search", USERS, DURATION, (user, iteration) -> {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			String brand = BRANDS[random.nextInt(BRANDS.length)];
+			String keyword = encode(brand + " " + ITEMS[random.nextInt(ITEMS.length)]);
+
+			generator.get("GET /api/products/suggest", "/api/products/suggest?prefix=" + encode(brand.substring(0, 1)));
+			generator.get("GET /api/products/search", "/api/products/search?keyword=" + keyword);
+			generator.get("GET /api/products/search/facets", "/api/products/search/facets?keyword=" + keyword
+				+ "&category=" + encode(CATEGORIES[random.nextInt(CATEGORIES.length)]));
+		});
+
+		print(report);
+		assertThat(report.errorRatio()).isLessThan(MAX_ERROR_RATIO);
+	}
+
+	/**
+	 * 결과 표 + 실행 모드, 최대 스레드 수, heap 사용량 (부하 생성 스레드 포함)
+	 */
+	private void print(LatencyReport report) {
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+		System.out.println(report.format());
+		System.out.printf("threads: %s, peak platform threads %d, heap used %d MB / max %d MB%n",
+			Threading.VIRTUAL.isActive(environment) ? "virtual" : "platform",
+			threads.getPeakThreadCount(), heap.getUsed() >> 20, heap.getMax() >> 20);
+		threads.resetPeakThreadCount();
+	}
+
+	private long randomProductId(ThreadLocalRandom random) {
+		return productIds.get(random.nextInt(productIds.size()));
+	}
+
+	private JsonNode json(HttpResponse<String> response) throws Exception {
+		return objectMapper.readTree(response.body());
+	}
+
+	private static String encode(String value) {
+		return URLEncoder.encode(value, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,127 @@
+package com.example.mini_shop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import com.example.mini_shop.entity.Order;
+import com.example.mini_shop.entity.Product;
+import com.example.mini_shop.repository.ProductRepository;
+import com.example.mini_shop.service.CartService;
+import com.example.mini_shop.service.OrderService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 주문 생성(상품 N개) 시 DB 왕복 수가 상품 수와 무관하게 거의 일정한지 측정 (Hibernate statistics)
+ * 같은 상품으로 한 번 주문해 재고 카운터/상품 캐시/sequence 를 채운 뒤 두 번째 주문을 측정
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = {
+	"spring.jpa.properties.hibernate.generate_statistics=true",
+	"spring.jpa.properties.hibernate.session.events.auto="
+		+ "com.example.mini_shop.OrderCreateQueryCountTests$BatchCounter",
+	"shop.stock.hot-counter.ttl-millis=600000",
+	"shop.outbox.relay-enabled=false"
+})
+class OrderCreateQueryCountTests {
+
+	private static final int[] ITEM_COUNTS = {1, 10, 50};
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private CartService cartService;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void createOrderRoundTripsDoNotGrowWithItems() {
+		Map<Integer, Measurement> measurements = new LinkedHashMap<>();
+		for (int itemCount : ITEM_COUNTS) {
+			String userId = "query-count-" + itemCount;
+			List<Long> productIds = createProducts(itemCount);
+
+			// 준비 주문 (재고 카운터 적재, sequence 할당)
+			fillCart(userId, productIds);
+			orderService.createOrder(userId, "tester", userId + "@example.com");
+
+			fillCart(userId, productIds);
+			statistics.clear();
+			BatchCounter.BATCHES.set(0);
+			Order order = orderService.createOrder(userId, "tester", userId + "@example.com");
+
+			assertThat(order.getOrderItems()).hasSize(itemCount);
+			measurements.put(itemCount, new Measurement(statistics.getPrepareStatementCount(),
+				BatchCounter.BATCHES.get(), statistics.getEntityInsertCount()));
+		}
+
+		System.out.println("items | statements | batches | entity inserts");
+		measurements.forEach((itemCount, m) ->
+			System.out.printf("%5d | %10d | %7d | %14d%n", itemCount, m.statements, m.batches, m.inserts));
+
+		// 상품 수가 50배가 되어도 늘어나는 건 sequence 할당 / batch 경계 정도
+		Measurement single = measurements.get(ITEM_COUNTS[0]);
+		Measurement largest = measurements.get(ITEM_COUNTS[ITEM_COUNTS.length - 1]);
+		assertThat(largest.statements).isLessThanOrEqualTo(single.statements + 2);
+		assertThat(largest.batches).isLessThanOrEqualTo(single.batches + 1);
+	}
+
+	private List<Long> createProducts(int count) {
+		List<Product> products = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			products.add(Product.builder()
+				.name("product-" + i)
+				.price(BigDecimal.TEN)
+				.stock(1_000)
+				.build());
+		}
+		return productRepository.saveAll(products).stream().map(Product::getId).toList();
+	}
+
+	private void fillCart(String userId, List<Long> productIds) {
+		productIds.forEach(productId -> cartService.addToCart(userId, productId, 1));
+	}
+
+	private record Measurement(long statements, long batches, long inserts) {
+	}
+
+	/**
+	 * JDBC batch 실행 횟수 (Statistics 에는 batch 수가 없어 세션 이벤트로 집계)
+	 */
+	public static class BatchCounter extends BaseSessionEventListener {
+
+		static final AtomicLong BATCHES = new AtomicLong();
+
+		@Override
+		public void jdbcExecuteBatchStart() {
+			BATCHES.incrementAndGet();
+		}
+	}
+}
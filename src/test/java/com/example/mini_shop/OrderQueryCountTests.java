@@ -0,0 +1,106 @@
+package com.example.mini_shop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import com.example.mini_shop.dto.OrderDetailResponse;
+import com.example.mini_shop.dto.OrderPageResponse;
+import com.example.mini_shop.entity.Order;
+import com.example.mini_shop.entity.OrderItem;
+import com.example.mini_shop.entity.Product;
+import com.example.mini_shop.repository.OrderRepository;
+import com.example.mini_shop.repository.ProductRepository;
+import com.example.mini_shop.service.OrderService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 주문 조회 시 쿼리 수가 주문 상품 수와 무관하게 일정한지 검증 (Hibernate statistics)
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = {
+	"spring.jpa.properties.hibernate.generate_statistics=true",
+	"shop.outbox.relay-enabled=false"
+})
+class OrderQueryCountTests {
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 10, 50})
+	void orderDetailUsesTwoQueries(int itemCount) {
+		Long orderId = createOrder("detail-" + itemCount + "@example.com", itemCount);
+
+		statistics.clear();
+		OrderDetailResponse order = orderService.getOrder(orderId);
+
+		assertThat(order.getOrderItems()).hasSize(itemCount);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 10, 50})
+	void customerOrderPageUsesTwoQueries(int itemCount) {
+		String email = "page-" + itemCount + "@example.com";
+		for (int i = 0; i < 3; i++) {
+			createOrder(email, itemCount);
+		}
+
+		statistics.clear();
+		OrderPageResponse<OrderDetailResponse> page = orderService.getOrdersByEmail(email, null, 20);
+
+		assertThat(page.getItems()).hasSize(3);
+		assertThat(page.getItems()).allSatisfy(order -> assertThat(order.getOrderItems()).hasSize(itemCount));
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	private Long createOrder(String email, int itemCount) {
+		Order order = Order.builder()
+			.customerName("tester")
+			.customerEmail(email)
+			.totalAmount(BigDecimal.ZERO)
+			.build();
+
+		for (int i = 0; i < itemCount; i++) {
+			Product product = productRepository.save(Product.builder()
+				.name("product-" + i)
+				.price(BigDecimal.TEN)
+				.stock(100)
+				.build());
+			order.addOrderItem(OrderItem.builder()
+				.product(product)
+				.quantity(1)
+				.price(BigDecimal.TEN)
+				.build());
+		}
+
+		return orderRepository.save(order).getId();
+	}
+}
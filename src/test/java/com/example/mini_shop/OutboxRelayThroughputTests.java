@@ -0,0 +1,69 @@
+package com.example.mini_shop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.mini_shop.event.NotificationEvent;
+import com.example.mini_shop.messaging.EventPublisher;
+import com.example.mini_shop.messaging.OutboxRelay;
+import com.example.mini_shop.repository.OutboxEventRepository;
+
+/**
+ * outbox relay 발행 처리량 측정 (events/sec)
+ * 기본 빌드에서는 실행하지 않음 : mvn test -Dtest=OutboxRelayThroughputTests -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@Import({TestcontainersConfiguration.class, RabbitMQContainerConfiguration.class})
+@SpringBootTest(properties = "shop.outbox.linger-millis=3600000")
+class OutboxRelayThroughputTests {
+
+	private static final int EVENTS = 20_000;
+	private static final int INSERT_CHUNK = 1_000;
+
+	@Autowired
+	private EventPublisher eventPublisher;
+
+	@Autowired
+	private OutboxRelay outboxRelay;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void relayThroughput() {
+		for (int start = 0; start < EVENTS; start += INSERT_CHUNK) {
+			int from = start;
+			transactionTemplate.executeWithoutResult(status -> {
+				for (int i = from; i < from + INSERT_CHUNK; i++) {
+					// 합쳐지지 않는 이벤트로 측정 (상품별 인덱싱/재고 이벤트는 debounce 후 합쳐짐)
+					eventPublisher.publishNotification(NotificationEvent.builder()
+						.recipient("user-" + i + "@example.com")
+						.type("BENCHMARK")
+						.title("Benchmark")
+						.message("event " + i)
+						.createdAt(LocalDateTime.now())
+						.build());
+				}
+			});
+		}
+
+		long startedAt = System.nanoTime();
+		outboxRelay.relay();
+		double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+		System.out.printf("Outbox relay: %d events in %.2fs (%.0f events/sec)%n",
+			EVENTS, seconds, EVENTS / seconds);
+		assertThat(outboxEventRepository.count()).isZero();
+	}
+}
@@ -0,0 +1,20 @@
+package com.example.mini_shop;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.RabbitMQContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 실제 브로커가 필요한 테스트용 RabbitMQ 컨테이너 (처리량/부하 측정)
+ */
+@TestConfiguration(proxyBeanMethods = false)
+class RabbitMQContainerConfiguration {
+
+	@Bean
+	@ServiceConnection
+	RabbitMQContainer rabbitContainer() {
+		return new RabbitMQContainer(DockerImageName.parse("rabbitmq:3-management"));
+	}
+}
@@ -0,0 +1,208 @@
+package com.example.mini_shop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.mini_shop.entity.Product;
+import com.example.mini_shop.repository.ProductRepository;
+import com.example.mini_shop.service.CartService;
+import com.example.mini_shop.service.OrderService;
+import com.example.mini_shop.service.ProductService;
+
+/**
+ * 동시 재고 차감 시 초과 판매가 없는지 검증 (docs/test.sh 의 5000 건 동시 요청 패턴)
+ * 기존 방식(조회 -> 비교 -> 저장)과 처리량 비교 결과 출력
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "shop.outbox.relay-enabled=false")
+class StockConcurrencyTests {
+
+	private static final int THREADS = 64;
+	private static final int REQUESTS = 5000;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private CartService cartService;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void decreaseStockNeverOversells() throws InterruptedException {
+		int stock = 100;
+		Long productId = createProduct("flash-sale", stock).getId();
+
+		Result result = run(REQUESTS, i -> {
+			try {
+				productService.decreaseStock(productId, 1);
+				return true;
+			} catch (RuntimeException e) {
+				return false;
+			}
+		});
+
+		assertThat(result.succeeded).isEqualTo(stock);
+		assertThat(currentStock(productId)).isZero();
+
+		// 관리자 재고 수정 후 카운터가 DB 재고로 다시 적재되는지
+		Product restock = productRepository.findById(productId).orElseThrow();
+		restock.setStock(10);
+		productService.updateProduct(productId, restock);
+
+		Result afterRestock = run(REQUESTS, i -> {
+			try {
+				productService.decreaseStock(productId, 1);
+				return true;
+			} catch (RuntimeException e) {
+				return false;
+			}
+		});
+
+		assertThat(afterRestock.succeeded).isEqualTo(10);
+		assertThat(currentStock(productId)).isZero();
+	}
+
+	@Test
+	void createOrderNeverOversells() throws InterruptedException {
+		int quantity = 2;
+		int limitedStock = 50;
+		int plentyStock = 100_000;
+		int users = 200;
+		Long limitedId = createProduct("limited", limitedStock).getId();
+		Long plentyId = createProduct("plenty", plentyStock).getId();
+
+		for (int i = 0; i < users; i++) {
+			cartService.addToCart(userId(i), plentyId, quantity);
+			cartService.addToCart(userId(i), limitedId, quantity);
+		}
+
+		Result result = run(users, i -> {
+			try {
+				orderService.createOrder(userId(i), "buyer " + i, userId(i) + "@example.com");
+				return true;
+			} catch (RuntimeException e) {
+				return false;
+			}
+		});
+
+		// 한정 상품 재고만큼만 주문 성공, 실패한 주문의 다른 상품 차감은 롤백
+		assertThat(result.succeeded * quantity).isEqualTo(limitedStock);
+		assertThat(currentStock(limitedId)).isZero();
+		assertThat(currentStock(plentyId)).isEqualTo(plentyStock - result.succeeded * quantity);
+	}
+
+	/**
+	 * 같은 조건(상품 1개, 64 스레드, 5000 요청)에서 예약 엔진과 기존 방식 처리량 비교
+	 * 기존 방식은 재고 확인과 저장 사이에 다른 요청이 끼어들어 초과 판매 발생 가능
+	 */
+	@Test
+	void throughputVersusReadCheckWrite() throws InterruptedException {
+		int stock = REQUESTS / 2;
+		Long reservationId = createProduct("reservation", stock).getId();
+		Long legacyId = createProduct("read-check-write", stock).getId();
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+		Result reservation = run(REQUESTS, i -> {
+			try {
+				productService.decreaseStock(reservationId, 1);
+				return true;
+			} catch (RuntimeException e) {
+				return false;
+			}
+		});
+
+		Result legacy = run(REQUESTS, i -> Boolean.TRUE.equals(transaction.execute(tx -> {
+			Product product = productRepository.findById(legacyId).orElseThrow();
+			if (product.getStock() < 1) {
+				return false;
+			}
+			product.setStock(product.getStock() - 1);
+			productRepository.save(product);
+			return true;
+		})));
+
+		System.out.printf("%n=== stock decrement : %d threads, %d requests, stock %d ===%n", THREADS, REQUESTS, stock);
+		System.out.printf("reservation engine : %8.1f req/s, succeeded %d, final stock %d%n",
+			reservation.throughput(), reservation.succeeded, currentStock(reservationId));
+		System.out.printf("read-check-write   : %8.1f req/s, succeeded %d, final stock %d (oversold %d)%n",
+			legacy.throughput(), legacy.succeeded, currentStock(legacyId), Math.max(0, legacy.succeeded - stock));
+
+		assertThat(reservation.succeeded).isEqualTo(stock);
+		assertThat(currentStock(reservationId)).isZero();
+	}
+
+	private Result run(int requests, IntPredicate task) throws InterruptedException {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(requests);
+		AtomicInteger succeeded = new AtomicInteger();
+
+		for (int i = 0; i < requests; i++) {
+			int index = i;
+			executor.submit(() -> {
+				try {
+					start.await();
+					if (task.test(index)) {
+						succeeded.incrementAndGet();
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		long startedAt = System.nanoTime();
+		start.countDown();
+		assertThat(done.await(2, TimeUnit.MINUTES)).isTrue();
+		long elapsedNanos = System.nanoTime() - startedAt;
+		executor.shutdown();
+		return new Result(requests, succeeded.get(), elapsedNanos);
+	}
+
+	private Product createProduct(String name, int stock) {
+		return productRepository.save(Product.builder()
+			.name(name)
+			.price(BigDecimal.TEN)
+			.stock(stock)
+			.build());
+	}
+
+	private int currentStock(Long productId) {
+		return productRepository.findStockById(productId).orElseThrow();
+	}
+
+	private static String userId(int index) {
+		return "stock-user-" + index;
+	}
+
+	private record Result(int requests, int succeeded, long elapsedNanos) {
+
+		double throughput() {
+			return requests / (elapsedNanos / 1_000_000_000.0);
+		}
+	}
+}
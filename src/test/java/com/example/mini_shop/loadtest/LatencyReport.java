@@ -0,0 +1,70 @@
+package com.example.mini_shop.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * 시나리오 실행 결과 (endpoint 별 처리량, 응답 시간 백분위)
+ */
+public class LatencyReport {
+
+	private final String scenario;
+	private final int users;
+	private final double seconds;
+	private final Map<String, LoadGenerator.EndpointStats> stats;
+	private final long scenarioErrors;
+
+	LatencyReport(String scenario, int users, double seconds, Map<String, LoadGenerator.EndpointStats> stats,
+		long scenarioErrors) {
+		this.scenario = scenario;
+		this.users = users;
+		this.seconds = seconds;
+		this.stats = new TreeMap<>(stats);
+		this.scenarioErrors = scenarioErrors;
+	}
+
+	public long totalRequests() {
+		return stats.values().stream().mapToLong(endpoint -> endpoint.latencyMicros.getTotalCount()).sum();
+	}
+
+	public long totalErrors() {
+		return stats.values().stream().mapToLong(endpoint -> endpoint.errors.get()).sum() + scenarioErrors;
+	}
+
+	public double errorRatio() {
+		long requests = totalRequests();
+		return requests == 0 ? 1.0 : (double) totalErrors() / requests;
+	}
+
+	/**
+	 * endpoint 별 요청 수, 오류 수, 처리량(req/s), 응답 시간 백분위(ms) 표
+	 */
+	public String format() {
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("%n=== %s : %d users, %.1fs, %d requests, %.1f req/s, errors %d (scenario %d) ===%n",
+			scenario, users, seconds, totalRequests(), totalRequests() / seconds, totalErrors(), scenarioErrors));
+		report.append(String.format("%-36s %8s %7s %9s %8s %8s %8s %8s %8s%n",
+			"endpoint", "count", "errors", "req/s", "p50", "p90", "p99", "p99.9", "max"));
+		stats.forEach((endpoint, endpointStats) -> {
+			Histogram histogram = endpointStats.latencyMicros;
+			report.append(String.format("%-36s %8d %7d %9.1f %8.2f %8.2f %8.2f %8.2f %8.2f%n",
+				endpoint,
+				histogram.getTotalCount(),
+				endpointStats.errors.get(),
+				histogram.getTotalCount() / seconds,
+				millis(histogram.getValueAtPercentile(50)),
+				millis(histogram.getValueAtPercentile(90)),
+				millis(histogram.getValueAtPercentile(99)),
+				millis(histogram.getValueAtPercentile(99.9)),
+				millis(histogram.getMaxValue())));
+		});
+		report.append("(latency in ms)");
+		return report.toString();
+	}
+
+	private static double millis(long micros) {
+		return micros / 1000.0;
+	}
+}
@@ -0,0 +1,131 @@
+package com.example.mini_shop.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * HTTP 부하 생성기 (closed model : 가상 사용자 수만큼 스레드가 시나리오를 반복)
+ * 요청마다 endpoint(경로 템플릿) 별 HDR histogram 에 응답 시간(μs) 기록
+ * 응답 코드 2xx 가 아니거나 I/O 오류면 error 로 집계
+ */
+public class LoadGenerator {
+
+	private final HttpClient httpClient;
+	private final String baseUrl;
+	private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+	private final AtomicLong scenarioErrors = new AtomicLong();
+
+	public LoadGenerator(String baseUrl, int maxConnections) {
+		this.baseUrl = baseUrl;
+		this.httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(5))
+			.executor(Executors.newFixedThreadPool(Math.max(4, maxConnections / 4)))
+			.build();
+	}
+
+	/**
+	 * 시나리오 1회 (가상 사용자 번호, 반복 횟수)
+	 */
+	@FunctionalInterface
+	public interface Scenario {
+		void iterate(int user, long iteration) throws Exception;
+	}
+
+	/**
+	 * users 명이 duration 동안 시나리오 반복 실행 후 결과 반환
+	 */
+	public LatencyReport run(String name, int users, Duration duration, Scenario scenario) throws InterruptedException {
+		stats.clear();
+		scenarioErrors.set(0);
+
+		ExecutorService executor = Executors.newFixedThreadPool(users);
+		long startedAt = System.nanoTime();
+		long deadline = startedAt + duration.toNanos();
+		List<Future<?>> workers = new ArrayList<>();
+		for (int user = 0; user < users; user++) {
+			int userId = user;
+			workers.add(executor.submit(() -> {
+				for (long iteration = 0; System.nanoTime() < deadline; iteration++) {
+					try {
+						scenario.iterate(userId, iteration);
+					} catch (Exception e) {
+						scenarioErrors.incrementAndGet();
+					}
+				}
+			}));
+		}
+
+		executor.shutdown();
+		if (!executor.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS)) {
+			executor.shutdownNow();
+		}
+		double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+		return new LatencyReport(name, users, seconds, Map.copyOf(stats), scenarioErrors.get());
+	}
+
+	public HttpResponse<String> get(String endpoint, String path) {
+		return send(endpoint, HttpRequest.newBuilder(uri(path)).GET());
+	}
+
+	public HttpResponse<String> post(String endpoint, String path, String json) {
+		return send(endpoint, HttpRequest.newBuilder(uri(path))
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(json)));
+	}
+
+	public HttpResponse<String> put(String endpoint, String path, String json) {
+		return send(endpoint, HttpRequest.newBuilder(uri(path))
+			.header("Content-Type", "application/json")
+			.PUT(HttpRequest.BodyPublishers.ofString(json)));
+	}
+
+	private HttpResponse<String> send(String endpoint, HttpRequest.Builder request) {
+		EndpointStats endpointStats = stats.computeIfAbsent(endpoint, key -> new EndpointStats());
+		long startedAt = System.nanoTime();
+		try {
+			HttpResponse<String> response = httpClient.send(
+				request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+			endpointStats.record(startedAt, response.statusCode() / 100 == 2);
+			return response;
+		} catch (IOException e) {
+			endpointStats.record(startedAt, false);
+			throw new RuntimeException("Request failed: " + endpoint, e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Request interrupted: " + endpoint, e);
+		}
+	}
+
+	private URI uri(String path) {
+		return URI.create(baseUrl + path);
+	}
+
+	static class EndpointStats {
+		final Histogram latencyMicros = new ConcurrentHistogram(3);
+		final AtomicLong errors = new AtomicLong();
+
+		void record(long startedAtNanos, boolean success) {
+			latencyMicros.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAtNanos));
+			if (!success) {
+				errors.incrementAndGet();
+			}
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package com.example.mini_shop.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import com.example.mini_shop.config.RabbitMQConfig;
+import com.example.mini_shop.entity.OutboxEvent;
+import com.example.mini_shop.event.ElasticsearchIndexEvent;
+import com.example.mini_shop.event.NotificationEvent;
+import com.example.mini_shop.event.StockUpdatedEvent;
+
+class OutboxCoalescerTest {
+
+	private final Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
+	private final OutboxCoalescer coalescer = new OutboxCoalescer(converter);
+
+	@Test
+	void repeatedUpdatesCollapseIntoOneEventPerProduct() {
+		List<OutboxEvent> events = List.of(
+			stock(1L, 7L, 10, 8),
+			index(2L, 7L, "UPDATE"),
+			notification(3L),
+			stock(4L, 7L, 8, 5),
+			index(5L, 7L, "UPDATE"),
+			stock(6L, 9L, 3, 4),
+			stock(7L, 7L, 5, 12));
+
+		OutboxCoalescer.Coalesced coalesced = coalescer.coalesce(events);
+
+		assertThat(coalesced.toSend()).extracting(OutboxEvent::getId).containsExactly(3L, 5L, 6L, 7L);
+		assertThat(coalesced.superseded()).containsEntry(7L, List.of(1L, 4L)).containsEntry(5L, List.of(2L));
+
+		OutboxEvent last = coalesced.toSend().get(3);
+		StockUpdatedEvent merged = read(last, coalesced.payload(last));
+		assertThat(merged.getPreviousStock()).isEqualTo(10);
+		assertThat(merged.getCurrentStock()).isEqualTo(12);
+		assertThat(merged.getOperation()).isEqualTo("INCREASE");
+
+		// 잠근 엔티티의 payload 는 그대로 (dirty checking UPDATE 방지)
+		StockUpdatedEvent stored = read(last, last.getPayload());
+		assertThat(stored.getPreviousStock()).isEqualTo(5);
+		assertThat(stored.getCurrentStock()).isEqualTo(12);
+	}
+
+	@Test
+	void stockDeltaFollowsCreationOrderNotId() {
+		// 다른 노드가 미리 할당받은 더 작은 id 로 나중에 저장한 이벤트
+		LocalDateTime now = LocalDateTime.now();
+		OutboxEvent earlier = stock(60L, 7L, 10, 8);
+		earlier.setCreatedAt(now);
+		OutboxEvent later = stock(11L, 7L, 8, 5);
+		later.setCreatedAt(now.plusNanos(1_000_000));
+
+		OutboxCoalescer.Coalesced coalesced = coalescer.coalesce(List.of(later, earlier));
+
+		assertThat(coalesced.toSend()).extracting(OutboxEvent::getId).containsExactly(11L);
+		assertThat(coalesced.superseded()).containsEntry(11L, List.of(60L));
+
+		StockUpdatedEvent merged = read(later, coalesced.payload(later));
+		assertThat(merged.getPreviousStock()).isEqualTo(10);
+		assertThat(merged.getCurrentStock()).isEqualTo(5);
+		assertThat(merged.getOperation()).isEqualTo("DECREASE");
+	}
+
+	private OutboxEvent stock(Long id, Long productId, int previous, int current) {
+		return outboxEvent(id, RabbitMQConfig.STOCK_ROUTING_KEY, OutboxCoalescer.STOCK_KEY_PREFIX + productId,
+			StockUpdatedEvent.builder()
+				.productId(productId)
+				.productName("product-" + productId)
+				.previousStock(previous)
+				.currentStock(current)
+				.operation(current > previous ? "INCREASE" : "DECREASE")
+				.updatedAt(LocalDateTime.now())
+				.build());
+	}
+
+	private OutboxEvent index(Long id, Long productId, String operation) {
+		return outboxEvent(id, RabbitMQConfig.ELASTICSEARCH_ROUTING_KEY, OutboxCoalescer.INDEX_KEY_PREFIX + productId,
+			ElasticsearchIndexEvent.builder()
+				.productId(productId)
+				.operation(operation)
+				.timestamp(LocalDateTime.now())
+				.build());
+	}
+
+	private OutboxEvent notification(Long id) {
+		return outboxEvent(id, RabbitMQConfig.NOTIFICATION_ROUTING_KEY, null,
+			NotificationEvent.builder().recipient("user@example.com").type("EMAIL").build());
+	}
+
+	private OutboxEvent outboxEvent(Long id, String routingKey, String coalesceKey, Object event) {
+		Message message = converter.toMessage(event, new MessageProperties());
+		return OutboxEvent.builder()
+			.id(id)
+			.routingKey(routingKey)
+			.typeId(message.getMessageProperties().getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME))
+			.payload(new String(message.getBody(), StandardCharsets.UTF_8))
+			.coalesceKey(coalesceKey)
+			.build();
+	}
+
+	private StockUpdatedEvent read(OutboxEvent event, String payload) {
+		MessageProperties properties = new MessageProperties();
+		properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+		properties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, event.getTypeId());
+		return (StockUpdatedEvent) converter.fromMessage(
+			new Message(payload.getBytes(StandardCharsets.UTF_8), properties));
+	}
+}
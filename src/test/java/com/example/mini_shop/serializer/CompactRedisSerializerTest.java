@@ -0,0 +1,98 @@
+package com.example.mini_shop.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.example.mini_shop.entity.Product;
+import com.example.mini_shop.model.CartItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+class CompactRedisSerializerTest {
+
+	private final ObjectMapper mapper = new ObjectMapper()
+		.registerModule(new JavaTimeModule())
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+	@Test
+	void cartItemRoundTripIsSmallerThanJson() throws Exception {
+		CartItemRedisSerializer serializer = new CartItemRedisSerializer(mapper, 512);
+		CartItem item = CartItem.builder()
+			.productId(42L)
+			.productName("맥북 프로 14")
+			.price(new BigDecimal("2890000.00"))
+			.quantity(2)
+			.build();
+
+		byte[] bytes = serializer.serialize(item);
+		CartItem restored = serializer.deserialize(bytes);
+
+		assertThat(restored).usingRecursiveComparison().isEqualTo(item);
+		assertThat(bytes.length).isLessThan(mapper.writeValueAsBytes(item).length / 2);
+	}
+
+	@Test
+	void decimalOutOfEncodableRangeFailsInsteadOfTruncating() {
+		CartItemRedisSerializer serializer = new CartItemRedisSerializer(mapper, 512);
+
+		assertThatThrownBy(() -> serializer.serialize(cartItem(new BigDecimal(BigInteger.ONE, 200))))
+			.isInstanceOf(SerializationException.class);
+		assertThatThrownBy(() -> serializer.serialize(cartItem(new BigDecimal(BigInteger.TWO.pow(2100)))))
+			.isInstanceOf(SerializationException.class);
+
+		CartItem edge = cartItem(new BigDecimal(BigInteger.TWO.pow(2030), Byte.MAX_VALUE));
+		assertThat(serializer.deserialize(serializer.serialize(edge))).usingRecursiveComparison().isEqualTo(edge);
+	}
+
+	@Test
+	void productWithLongDescriptionIsCompressed() {
+		ProductRedisSerializer serializer = new ProductRedisSerializer(mapper, 512);
+		Product product = Product.builder()
+			.id(7L)
+			.name("에어팟 프로")
+			.description("노이즈 캔슬링 무선 이어폰 ".repeat(60))
+			.price(new BigDecimal("359000"))
+			.stock(120)
+			.category(null)
+			.createdAt(LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6_000_000))
+			.updatedAt(LocalDateTime.of(2024, 1, 2, 3, 4, 5))
+			.build();
+
+		byte[] bytes = serializer.serialize(product);
+		Product restored = serializer.deserialize(bytes);
+
+		assertThat(bytes[0]).isEqualTo((byte) 0x11);
+		assertThat(bytes.length).isLessThan(512);
+		assertThat(restored).usingRecursiveComparison().isEqualTo(product);
+	}
+
+	@Test
+	void readsLegacyJsonValues() throws Exception {
+		CartItemRedisSerializer serializer = new CartItemRedisSerializer(mapper, 512);
+		byte[] json = "{\"productId\":1,\"productName\":\"패딩\",\"price\":159000,\"quantity\":1,\"totalPrice\":159000}"
+			.getBytes("UTF-8");
+
+		CartItem restored = serializer.deserialize(json);
+
+		assertThat(restored.getProductId()).isEqualTo(1L);
+		assertThat(restored.getProductName()).isEqualTo("패딩");
+		assertThat(restored.getPrice()).isEqualByComparingTo("159000");
+	}
+
+	private CartItem cartItem(BigDecimal price) {
+		return CartItem.builder()
+			.productId(1L)
+			.productName("상품")
+			.price(price)
+			.quantity(1)
+			.build();
+	}
+}
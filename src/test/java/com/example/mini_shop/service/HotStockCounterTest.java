@@ -0,0 +1,95 @@
+package com.example.mini_shop.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class HotStockCounterTest {
+
+	@Test
+	void concurrentReservationsNeverOversell() throws InterruptedException {
+		int stock = 100;
+		int requests = 5000;
+		HotStockCounter counter = new HotStockCounter(10, TimeUnit.MINUTES.toMillis(1));
+		AtomicInteger loads = new AtomicInteger();
+		AtomicInteger succeeded = new AtomicInteger();
+
+		ExecutorService executor = Executors.newFixedThreadPool(64);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(requests);
+
+		for (int i = 0; i < requests; i++) {
+			executor.submit(() -> {
+				try {
+					start.await();
+					Boolean result = counter.tryDecrement(1L, 1, id -> {
+						loads.incrementAndGet();
+						return stock;
+					});
+					if (Boolean.TRUE.equals(result)) {
+						succeeded.incrementAndGet();
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		start.countDown();
+		assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+		executor.shutdown();
+
+		assertThat(succeeded.get()).isEqualTo(stock);
+		assertThat(counter.available(1L)).isZero();
+		assertThat(loads.get()).isGreaterThanOrEqualTo(1);
+	}
+
+	@Test
+	void newProductsAreStillTrackedWhenFull() {
+		HotStockCounter counter = new HotStockCounter(1, TimeUnit.MINUTES.toMillis(1));
+
+		assertThat(counter.tryDecrement(1L, 1, id -> 10)).isTrue();
+		assertThat(counter.tryDecrement(2L, 1, id -> 10)).isTrue();
+	}
+
+	@Test
+	void expiredCountersAreReseeded() throws InterruptedException {
+		HotStockCounter counter = new HotStockCounter(10, 50);
+		AtomicInteger loads = new AtomicInteger();
+
+		assertThat(counter.tryDecrement(1L, 1, id -> loads.incrementAndGet() * 10)).isTrue();
+		assertThat(counter.available(1L)).isEqualTo(9);
+
+		Thread.sleep(100);
+		assertThat(counter.available(1L)).isNull();
+		assertThat(counter.tryDecrement(1L, 1, id -> loads.incrementAndGet() * 10)).isTrue();
+		assertThat(counter.available(1L)).isEqualTo(19);
+	}
+
+	@Test
+	void unknownProductsAreNotTracked() {
+		HotStockCounter counter = new HotStockCounter(10, TimeUnit.MINUTES.toMillis(1));
+
+		assertThat(counter.tryDecrement(1L, 1, id -> null)).isNull();
+		assertThat(counter.available(1L)).isNull();
+	}
+
+	@Test
+	void incrementRestoresReleasedQuantity() {
+		HotStockCounter counter = new HotStockCounter(10, TimeUnit.MINUTES.toMillis(1));
+
+		assertThat(counter.tryDecrement(1L, 3, id -> 3)).isTrue();
+		assertThat(counter.tryDecrement(1L, 1, id -> 3)).isFalse();
+
+		counter.increment(1L, 3);
+		assertThat(counter.available(1L)).isEqualTo(3);
+	}
+}
@@ -0,0 +1,28 @@
+package com.example.mini_shop.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class PrefixIndexTest {
+
+	private final PrefixIndex index = PrefixIndex.build(
+		List.of("맥북 프로 14", "맥북 에어", "아이폰 15 Pro", "에어팟 프로", "나이키 에어맥스"), true);
+
+	@Test
+	void matchesFromAnyWordStartIgnoringCase() {
+		assertThat(index.lookup("맥북", 10)).containsExactly("맥북 에어", "맥북 프로 14");
+		assertThat(index.lookup("프로", 10)).containsExactlyInAnyOrder("맥북 프로 14", "에어팟 프로");
+		assertThat(index.lookup("  PRO ", 10)).containsExactly("아이폰 15 Pro");
+		assertThat(index.lookup("에어", 10)).containsExactlyInAnyOrder("맥북 에어", "에어팟 프로", "나이키 에어맥스");
+	}
+
+	@Test
+	void limitsResultsAndIgnoresUnknownPrefixes() {
+		assertThat(index.lookup("에어", 2)).hasSize(2);
+		assertThat(index.lookup("갤럭시", 10)).isEmpty();
+		assertThat(index.lookup(" ", 10)).isEmpty();
+	}
+}